@@ -0,0 +1,85 @@
+package com.ecommerce.productservice.dto;
+
+import com.ecommerce.productservice.model.Product;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing serialization cost of the Product entity against the ProductResponse DTO, written
+ * once through Jackson's reflective record serializer and once through the hand-written
+ * ProductResponseSerializer. Divide by productCount for the per-object cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductResponseSerializationBenchmark {
+    
+    @Param({"1", "100"})
+    private int productCount;
+    
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveMapper;
+    private List<Product> products;
+    private List<ProductResponse> responses;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // Ignoring annotations drops @JsonSerialize, leaving the default record serializer
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(MapperFeature.USE_ANNOTATIONS).build();
+        products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Wireless Gaming Mouse " + i);
+            product.setDescription("Ergonomic wireless gaming mouse with RGB");
+            product.setPrice(new BigDecimal("49.99"));
+            product.setStockQuantity(50);
+            product.setCategory("Electronics");
+            product.setImageUrl("https://images.example.com/products/" + i + ".png");
+            product.setSku(String.format("TECH-MOUSE-%03d", i));
+            products.add(product);
+        }
+        responses = ProductMapper.toResponses(products);
+    }
+    
+    @Benchmark
+    public byte[] entity() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+    
+    @Benchmark
+    public byte[] dtoReflective() throws Exception {
+        return reflectiveMapper.writeValueAsBytes(responses);
+    }
+    
+    @Benchmark
+    public byte[] dtoSerializer() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+    
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ProductMapper.toResponses(products));
+    }
+}
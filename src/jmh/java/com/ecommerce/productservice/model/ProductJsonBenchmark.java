@@ -0,0 +1,72 @@
+package com.ecommerce.productservice.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product JSON serialization and deserialization with an ObjectMapper configured the way
+ * Spring MVC configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductJsonBenchmark {
+    
+    private static final TypeReference<List<Product>> PRODUCT_LIST = new TypeReference<>() { };
+    
+    @Param({"1", "100"})
+    private int productCount;
+    
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private byte[] json;
+    
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Wireless Gaming Mouse " + i);
+            product.setDescription("Ergonomic wireless gaming mouse with RGB");
+            product.setPrice(new BigDecimal("49.99"));
+            product.setStockQuantity(50);
+            product.setCategory("Electronics");
+            product.setImageUrl("https://images.example.com/products/" + i + ".png");
+            product.setSku(String.format("TECH-MOUSE-%03d", i));
+            products.add(product);
+        }
+        json = objectMapper.writeValueAsBytes(products);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+    
+    @Benchmark
+    public List<Product> deserialize() throws Exception {
+        return objectMapper.readValue(json, PRODUCT_LIST);
+    }
+}
@@ -0,0 +1,122 @@
+package com.ecommerce.productservice.model;
+
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU and bytes on the wire for a 10k-product listing in each negotiable encoding, with and
+ * without the gzip step server.compression applies. The wireBytes column is the size of one
+ * encoded listing. The listing holds ProductResponse records, so encoding goes through
+ * ProductResponseSerializer exactly as the listing endpoints do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListingEncodingBenchmark {
+    
+    private static final TypeReference<List<ProductResponse>> PRODUCT_LIST = new TypeReference<>() { };
+    
+    @Param({"json", "smile", "cbor"})
+    private String format;
+    
+    @Param({"false", "true"})
+    private boolean gzip;
+    
+    @Param({"10000"})
+    private int productCount;
+    
+    private ObjectMapper objectMapper;
+    private List<ProductResponse> products;
+    private byte[] encoded;
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long wireBytes;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+    
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory(format)).build();
+        products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            Product product = new Product();
+            product.setId((long) i + 1);
+            product.setName("Wireless Gaming Mouse " + i);
+            product.setDescription("Ergonomic wireless gaming mouse with RGB");
+            product.setPrice(new BigDecimal("49.99").add(BigDecimal.valueOf(i % 100)));
+            product.setStockQuantity(i % 250);
+            product.setCategory(i % 2 == 0 ? "Electronics" : "Sports & Outdoors");
+            product.setImageUrl("https://images.example.com/products/" + i + ".png");
+            product.setSku(String.format("TECH-MOUSE-%05d", i));
+            products.add(ProductMapper.toResponse(product));
+        }
+        encoded = encode(new WireSize());
+    }
+    
+    @Benchmark
+    public byte[] encode(WireSize wireSize) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        try (OutputStream out = gzip ? new GZIPOutputStream(buffer) : buffer) {
+            objectMapper.writeValue(out, products);
+        }
+        byte[] bytes = buffer.toByteArray();
+        wireSize.wireBytes = bytes.length;
+        return bytes;
+    }
+    
+    @Benchmark
+    public List<ProductResponse> decode() throws Exception {
+        try (InputStream in = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+                : new ByteArrayInputStream(encoded)) {
+            return objectMapper.readValue(in, PRODUCT_LIST);
+        }
+    }
+    
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
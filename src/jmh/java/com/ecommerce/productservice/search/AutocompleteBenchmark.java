@@ -0,0 +1,58 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion latency of ProductAutocompleteIndex over a synthetic catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+    
+    private static final String[] ADJECTIVES = {"Gaming", "Wireless", "Premium", "Compact", "Smart", "Classic", "Ultra", "Eco"};
+    private static final String[] NOUNS = {"Laptop", "Mouse", "Keyboard", "Headphones", "Lamp", "Bottle", "Shirt", "Mat"};
+    
+    @Param({"100000"})
+    private int catalogSize;
+    
+    @Param({"g", "wireless mo", "tech-mouse-00"})
+    private String prefix;
+    
+    private ProductAutocompleteIndex index;
+    
+    @Setup
+    public void setUp() {
+        index = new ProductAutocompleteIndex();
+        for (long id = 1; id <= catalogSize; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setName(ADJECTIVES[(int) (id % ADJECTIVES.length)] + " "
+                + NOUNS[(int) ((id / ADJECTIVES.length) % NOUNS.length)] + " " + id);
+            product.setSku("TECH-" + NOUNS[(int) (id % NOUNS.length)].toUpperCase() + "-" + String.format("%06d", id));
+            index.index(product);
+        }
+    }
+    
+    @Benchmark
+    public List<Suggestion> completeTop10() {
+        return index.complete(prefix, 10);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.productservice.service;
+
+import com.ecommerce.productservice.ProductServiceApplication;
+import com.ecommerce.productservice.cache.ProductCache;
+import com.ecommerce.productservice.model.BulkItemResult;
+import com.ecommerce.productservice.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService hot paths against the real Spring context, JPA and in-memory H2.
+ *
+ * getProductByIdWarm reads products that are already cached; getProductByIdCold evicts the
+ * product first so every call goes through the repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+    
+    private static final String[] CATEGORIES = {"Electronics", "Home", "Sports", "Books"};
+    
+    @Param({"1000"})
+    private int catalogSize;
+    
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductCache productCache;
+    private long[] ids;
+    
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        
+        long nextId(long[] ids) {
+            next = (next + 1) % ids.length;
+            return ids[next];
+        }
+    }
+    
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.ecommerce.productservice=WARN",
+                "telemetry.service.url=http://localhost:1")
+            .run();
+        productService = context.getBean(ProductService.class);
+        productCache = context.getBean(ProductCache.class);
+        
+        List<Product> products = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            Product product = new Product();
+            product.setName("Benchmark Product " + i);
+            product.setDescription("Synthetic product used by ProductServiceBenchmark");
+            product.setPrice(new BigDecimal("19.99"));
+            product.setStockQuantity(100);
+            product.setCategory(CATEGORIES[i % CATEGORIES.length]);
+            product.setSku(String.format("BENCH-%06d", i));
+            products.add(product);
+        }
+        ids = productService.bulkUpsert(products).getItems().stream()
+            .map(BulkItemResult::getId)
+            .mapToLong(Long::longValue)
+            .toArray();
+        for (long id : ids) {
+            productService.getProductById(id);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Product getProductByIdWarm(Cursor cursor) {
+        return productService.getProductById(cursor.nextId(ids));
+    }
+    
+    @Benchmark
+    public Product getProductByIdCold(Cursor cursor) {
+        long id = cursor.nextId(ids);
+        productCache.invalidate(id);
+        return productService.getProductById(id);
+    }
+    
+    @Benchmark
+    public List<Product> getProductsByCategory() {
+        return productService.getProductsByCategory("Electronics");
+    }
+    
+    @Benchmark
+    public Product updateStock(Cursor cursor) {
+        return productService.updateStock(cursor.nextId(ids), 50 + cursor.next % 50);
+    }
+}
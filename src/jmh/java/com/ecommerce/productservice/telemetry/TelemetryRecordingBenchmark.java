@@ -0,0 +1,111 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording telemetry events on the request path. Run with the gc profiler
+ * (configured in build.gradle) to check that gc.alloc.rate.norm stays at ~0 B/op.
+ *
+ * The flush interval and batch size are large enough that the flusher never runs during a
+ * measurement, so nothing is sent; the ring is emptied with discardPending() so producers
+ * measure the publish path rather than the drop path. buildBatchPayload covers the other
+ * half: turning a full batch of recorded events into the maps the flusher serializes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TelemetryRecordingBenchmark {
+    
+    private static final int DRAIN_EVERY = 1024;
+    private static final int BATCH_SIZE = 100;
+    
+    private TelemetryClient client;
+    
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int operations;
+        
+        @Setup
+        public void setUp() {
+            TelemetryClient.TraceContext.propagate("trace_benchmark", "span_benchmark");
+            TelemetryClient.TraceContext.setStartTime(System.currentTimeMillis());
+        }
+        
+        @TearDown
+        public void tearDown() {
+            TelemetryClient.TraceContext.clear();
+        }
+    }
+    
+    @Setup
+    public void setUp() {
+        client = new TelemetryClient(1 << 16, 1 << 16, TimeUnit.HOURS.toMillis(1));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        client.discardPending();
+        client.shutdown();
+    }
+    
+    @Benchmark
+    public void recordServiceCall(ThreadState state) {
+        client.recordServiceCall("inventory-service", "reserve", "POST", "/api/inventory/reserve", 12, 200);
+        drainPeriodically(state);
+    }
+    
+    @Benchmark
+    public void logEvent(ThreadState state) {
+        client.logEvent("Cache miss for product", "info");
+        drainPeriodically(state);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void recordServiceCallContended(ThreadState state) {
+        client.recordServiceCall("inventory-service", "reserve", "POST", "/api/inventory/reserve", 12, 200);
+        drainPeriodically(state);
+    }
+    
+    @Benchmark
+    public String traceLifecycle(ThreadState state) {
+        String traceId = client.startTrace("getProduct", "GET", "/api/products/1", null);
+        client.finishTrace("getProduct", 200, null);
+        // finishTrace clears the context; restore it for the other benchmarks on this thread
+        TelemetryClient.TraceContext.propagate("trace_benchmark", "span_benchmark", true);
+        drainPeriodically(state);
+        return traceId;
+    }
+    
+    @Benchmark
+    public List<Map<String, Object>> buildBatchPayload(ThreadState state) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            client.logEvent("Cache miss for product", "info");
+        }
+        return client.drainPendingEvents();
+    }
+    
+    private void drainPeriodically(ThreadState state) {
+        if (++state.operations % DRAIN_EVERY == 0) {
+            client.discardPending();
+        }
+    }
+}
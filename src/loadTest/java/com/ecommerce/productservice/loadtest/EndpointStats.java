@@ -0,0 +1,37 @@
+package com.ecommerce.productservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histogram (microseconds) and error count of one request type.
+ */
+final class EndpointStats {
+    
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    
+    private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final AtomicLong errors = new AtomicLong();
+    
+    void record(long latencyMicros, boolean failed) {
+        histogram.recordValue(Math.max(0, Math.min(latencyMicros, MAX_LATENCY_MICROS)));
+        if (failed) {
+            errors.incrementAndGet();
+        }
+    }
+    
+    Histogram getHistogram() { return histogram; }
+    
+    long getCount() { return histogram.getTotalCount(); }
+    
+    long getErrors() { return errors.get(); }
+    
+    double getErrorRate() { return getCount() == 0 ? 0 : (double) getErrors() / getCount(); }
+    
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
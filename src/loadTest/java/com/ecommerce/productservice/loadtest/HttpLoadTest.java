@@ -0,0 +1,156 @@
+package com.ecommerce.productservice.loadtest;
+
+import com.ecommerce.productservice.ProductServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reproducible local HTTP load test.
+ *
+ * Boots ProductServiceApplication on a random port against the in-memory H2 database, then
+ * issues the configured request mix at a fixed rate (open loop: requests go out on schedule
+ * whether or not earlier ones have returned). Latency is measured from each request's
+ * scheduled send time, so server stalls show up as queueing delay instead of silently
+ * lowering the request rate. Per-endpoint HdrHistograms are written to the report
+ * directory, and the process exits non-zero when a p99 regresses past the stored baseline.
+ *
+ * Arguments: config file, baseline file, report directory. Run with
+ * -Dloadtest.updateBaseline=true to store this run's p99 values as the new baseline.
+ */
+public class HttpLoadTest {
+    
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(Path.of(args[0]));
+        Path baselinePath = Path.of(args[1]);
+        Path reportDirectory = Path.of(args[2]);
+        
+        Map<Scenario, EndpointStats> results;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .properties(
+                    "server.port=0",
+                    "spring.jpa.show-sql=false",
+                    "logging.level.com.ecommerce.productservice=WARN",
+                    "telemetry.service.url=http://localhost:1")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+            
+            System.out.printf("Warming up for %ds at %d req/s%n", config.getWarmup().toSeconds(), config.getTargetRps());
+            drive(httpClient, baseUrl, config, config.getWarmup());
+            System.out.printf("Measuring for %ds at %d req/s%n", config.getDuration().toSeconds(), config.getTargetRps());
+            results = drive(httpClient, baseUrl, config, config.getDuration());
+        }
+        
+        writeReports(results, config, reportDirectory);
+        
+        if (Boolean.getBoolean("loadtest.updateBaseline")) {
+            LatencyBaseline.save(baselinePath, results);
+            System.out.println("Baseline updated: " + baselinePath);
+            return;
+        }
+        Map<String, Double> baseline = LatencyBaseline.load(baselinePath);
+        if (baseline.isEmpty()) {
+            System.err.println("FAILED no p99 baseline at " + baselinePath + "; the latency gate cannot pass without one");
+        }
+        List<String> failures = LatencyBaseline.check(results, baseline, config);
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("FAILED " + failure));
+            System.exit(1);
+        }
+    }
+    
+    private static Map<Scenario, EndpointStats> drive(HttpClient httpClient, String baseUrl, LoadTestConfig config,
+                                                      Duration duration) throws InterruptedException {
+        Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+        config.getMix().keySet().forEach(scenario -> stats.put(scenario, new EndpointStats()));
+        Scenario[] weighted = weightedScenarios(config.getMix());
+        
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getTargetRps();
+        long requests = duration.toNanos() / intervalNanos;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>((int) Math.min(requests, Integer.MAX_VALUE));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        
+        for (long i = 0; i < requests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = weighted[random.nextInt(weighted.length)];
+            EndpointStats endpoint = stats.get(scenario);
+            inFlight.add(httpClient.sendAsync(scenario.request(baseUrl, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> endpoint.record(
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt),
+                    error != null || response.statusCode() >= 400)));
+        }
+        
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .get(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            System.err.println("Requests still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s: " + e);
+        }
+        return stats;
+    }
+    
+    /**
+     * Expands the weights into a lookup table so picking a request type is one random index.
+     */
+    private static Scenario[] weightedScenarios(Map<Scenario, Integer> mix) {
+        List<Scenario> table = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(scenario);
+            }
+        });
+        return table.toArray(Scenario[]::new);
+    }
+    
+    private static void writeReports(Map<Scenario, EndpointStats> results, LoadTestConfig config,
+                                     Path reportDirectory) throws IOException {
+        Files.createDirectories(reportDirectory);
+        StringBuilder summary = new StringBuilder()
+            .append(String.format("Target %d req/s for %ds%n", config.getTargetRps(), config.getDuration().toSeconds()))
+            .append(String.format("%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<Scenario, EndpointStats> entry : results.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            summary.append(String.format("%-14s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                entry.getKey().key(), stats.getCount(), stats.getErrors(),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                stats.percentileMillis(99.9), stats.getHistogram().getMaxValue() / 1000.0));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    reportDirectory.resolve(entry.getKey().key() + ".hgrm")))) {
+                // Values are recorded in microseconds; scale the distribution to milliseconds
+                stats.getHistogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.print(summary);
+        Files.writeString(reportDirectory.resolve("summary.txt"), summary);
+    }
+}
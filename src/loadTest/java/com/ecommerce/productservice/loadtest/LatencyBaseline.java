@@ -0,0 +1,65 @@
+package com.ecommerce.productservice.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stored p99 latency per request type, in milliseconds, that later runs must stay within.
+ */
+final class LatencyBaseline {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    
+    private LatencyBaseline() {
+    }
+    
+    static Map<String, Double> load(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return Map.of();
+        }
+        return MAPPER.readValue(path.toFile(), new TypeReference<TreeMap<String, Double>>() { });
+    }
+    
+    static void save(Path path, Map<Scenario, EndpointStats> results) throws IOException {
+        Map<String, Double> p99 = new TreeMap<>();
+        results.forEach((scenario, stats) -> p99.put(scenario.key(), stats.percentileMillis(99)));
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), p99);
+    }
+    
+    /**
+     * Returns one message per endpoint whose p99 exceeds its baseline by more than the
+     * tolerance, whose error rate is above the limit, or that has no baseline at all - a
+     * missing baseline must not turn the latency gate into a silent pass.
+     */
+    static List<String> check(Map<Scenario, EndpointStats> results, Map<String, Double> baseline, LoadTestConfig config) {
+        List<String> failures = new ArrayList<>();
+        results.forEach((scenario, stats) -> {
+            if (stats.getErrorRate() > config.getMaxErrorRate()) {
+                failures.add(String.format("%s: error rate %.2f%% exceeds %.2f%%", scenario.key(),
+                    stats.getErrorRate() * 100, config.getMaxErrorRate() * 100));
+            }
+            Double baselineP99 = baseline.get(scenario.key());
+            if (baselineP99 == null) {
+                failures.add(String.format("%s: no p99 baseline; record one on this machine with "
+                    + "./gradlew loadTest -Ploadtest.updateBaseline=true", scenario.key()));
+                return;
+            }
+            double limit = baselineP99 * (1 + config.getP99Tolerance());
+            if (stats.percentileMillis(99) > limit) {
+                failures.add(String.format("%s: p99 %.2f ms exceeds baseline %.2f ms (+%.0f%% tolerance = %.2f ms)",
+                    scenario.key(), stats.percentileMillis(99), baselineP99, config.getP99Tolerance() * 100, limit));
+            }
+        });
+        return failures;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.productservice.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Settings of one load-test run, read from a properties file (see loadtest.properties).
+ */
+final class LoadTestConfig {
+    
+    private final int targetRps;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Scenario, Integer> mix;
+    private final double p99Tolerance;
+    private final double maxErrorRate;
+    
+    private LoadTestConfig(int targetRps, Duration warmup, Duration duration, Map<Scenario, Integer> mix,
+                           double p99Tolerance, double maxErrorRate) {
+        this.targetRps = targetRps;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.p99Tolerance = p99Tolerance;
+        this.maxErrorRate = maxErrorRate;
+    }
+    
+    static LoadTestConfig load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            int weight = Integer.parseInt(properties.getProperty("mix." + scenario.key(), "0").trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix." + scenario.key() + " must not be negative");
+            }
+            if (weight > 0) {
+                mix.put(scenario, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("At least one mix.* weight must be positive");
+        }
+        return new LoadTestConfig(
+            Integer.parseInt(properties.getProperty("target-rps", "200").trim()),
+            Duration.ofSeconds(Long.parseLong(properties.getProperty("warmup-seconds", "10").trim())),
+            Duration.ofSeconds(Long.parseLong(properties.getProperty("duration-seconds", "30").trim())),
+            mix,
+            Double.parseDouble(properties.getProperty("p99-tolerance", "0.25").trim()),
+            Double.parseDouble(properties.getProperty("max-error-rate", "0.01").trim()));
+    }
+    
+    int getTargetRps() { return targetRps; }
+    
+    Duration getWarmup() { return warmup; }
+    
+    Duration getDuration() { return duration; }
+    
+    Map<Scenario, Integer> getMix() { return mix; }
+    
+    double getP99Tolerance() { return p99Tolerance; }
+    
+    double getMaxErrorRate() { return maxErrorRate; }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.productservice.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request types the load test mixes, keyed by the names used in loadtest.properties.
+ * Reads and stock updates target the 15 products seeded by DataLoader. Stock updates carry no
+ * If-Match, so concurrent updates of one product are last-write-wins and never expected to fail.
+ */
+enum Scenario {
+    
+    GET_BY_ID("get-by-id") {
+        @Override
+        HttpRequest request(String baseUrl, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + seededId(random))).GET().build();
+        }
+    },
+    CATEGORY("category") {
+        @Override
+        HttpRequest request(String baseUrl, ThreadLocalRandom random) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/category/" + category)).GET().build();
+        }
+    },
+    UPDATE_STOCK("update-stock") {
+        @Override
+        HttpRequest request(String baseUrl, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + seededId(random) + "/stock"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"quantity\":" + random.nextInt(10, 500) + "}"))
+                .build();
+        }
+    },
+    CREATE("create") {
+        @Override
+        HttpRequest request(String baseUrl, ThreadLocalRandom random) {
+            String sku = "LOAD-" + UUID.randomUUID();
+            String body = "{\"name\":\"Load Test Product\",\"description\":\"Created by HttpLoadTest\","
+                + "\"price\":19.99,\"stockQuantity\":100,\"category\":\"Books\",\"sku\":\"" + sku + "\"}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+    };
+    
+    // Path segments of the seeded categories, URL-encoded where needed
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Clothing", "Home%20%26%20Garden", "Sports%20%26%20Outdoors"};
+    private static final int SEEDED_PRODUCTS = 15;
+    
+    private final String key;
+    
+    Scenario(String key) {
+        this.key = key;
+    }
+    
+    String key() {
+        return key;
+    }
+    
+    abstract HttpRequest request(String baseUrl, ThreadLocalRandom random);
+    
+    private static long seededId(ThreadLocalRandom random) {
+        return random.nextLong(1, SEEDED_PRODUCTS + 1);
+    }
+}
@@ -0,0 +1,173 @@
+package com.ecommerce.productservice.loadtest;
+
+import com.ecommerce.productservice.ProductServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the service twice in-process - once with the default Tomcat platform thread pool and
+ * once with the virtual-threads profile - and drives the same closed-loop read/write mix
+ * against each, reporting throughput, p50 and p99. Results are printed and written as a
+ * Markdown table to the path given as the first argument.
+ */
+public class ThreadModeComparison {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 200);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+        int runtimeVersion = Runtime.version().feature();
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform", null, clients, duration));
+        results.add(run("virtual", "virtual-threads", clients, duration));
+
+        StringBuilder report = new StringBuilder()
+            .append("# Request thread modes\n\n")
+            .append("Java ").append(runtimeVersion).append(", ").append(clients).append(" clients, ")
+            .append(duration.toSeconds()).append("s per mode\n\n");
+        if (runtimeVersion < 21) {
+            report.append("> Java ").append(runtimeVersion)
+                .append(" has no virtual threads; both runs used the platform thread pool.\n\n");
+        }
+        report.append("| Mode | Requests | Throughput (req/s) | p50 (ms) | p99 (ms) | Errors |\n")
+            .append("|------|----------|--------------------|----------|----------|--------|\n");
+        for (Result result : results) {
+            report.append(String.format("| %s | %d | %.0f | %.2f | %.2f | %d |%n", result.mode(), result.requests(),
+                result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+        }
+
+        System.out.println(report);
+        if (args.length > 0) {
+            Path output = Path.of(args[0]);
+            Files.createDirectories(output.getParent());
+            Files.writeString(output, report);
+        }
+    }
+
+    private static Result run(String mode, String profile, int clients, Duration duration) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ProductServiceApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.ecommerce.productservice=WARN",
+                "telemetry.service.url=http://localhost:1");
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+            drive(httpClient, baseUrl, clients, WARMUP);
+            long start = System.nanoTime();
+            List<long[]> latencies = drive(httpClient, baseUrl, clients, duration);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(latency -> latency >= 0).sorted().toArray();
+            long errors = latencies.stream().flatMapToLong(Arrays::stream).filter(latency -> latency < 0).count();
+            return new Result(mode, all.length, all.length / elapsedSeconds,
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6, errors);
+        }
+    }
+
+    /**
+     * Runs the clients until the deadline. Each client returns its latencies in nanoseconds;
+     * failed requests are recorded as -1.
+     */
+    private static List<long[]> drive(HttpClient httpClient, String baseUrl, int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    LatencyLog log = new LatencyLog();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(baseUrl);
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            log.add(response.statusCode() < 500 ? System.nanoTime() - sent : -1);
+                        } catch (IOException e) {
+                            log.add(-1);
+                        }
+                    }
+                    return log.toArray();
+                }));
+            }
+            List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 70% reads by id, 20% category listings, 10% stock updates over the seeded catalog.
+     */
+    private static HttpRequest nextRequest(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = random.nextLong(1, 16);
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + id)).GET().build();
+        }
+        if (roll < 90) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/category/Electronics")).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + id + "/stock"))
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString("{\"quantity\":" + random.nextInt(10, 500) + "}"))
+            .build();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private record Result(String mode, long requests, double throughput, double p50Millis, double p99Millis, long errors) {
+    }
+
+    private static final class LatencyLog {
+        private long[] values = new long[4096];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
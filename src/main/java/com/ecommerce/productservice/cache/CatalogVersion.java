@@ -0,0 +1,103 @@
+package com.ecommerce.productservice.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Monotonic change counters for the whole catalog and for each category, used to answer
+ * conditional GETs on listings without querying the database.
+ *
+ * ProductService marks the affected categories after every write. Inside a transaction the
+ * bump waits for the commit, so a reader can never pair a new version with data that is not
+ * visible yet. Counters live in memory, so every ETag also carries the startup time and
+ * tags handed out before a restart never match again.
+ */
+@Component
+public class CatalogVersion {
+    
+    private final LongSupplier clock;
+    private final long epoch;
+    private final Stamp initial;
+    private final AtomicReference<Stamp> catalog;
+    private final Map<String, Stamp> categories = new ConcurrentHashMap<>();
+    
+    public CatalogVersion() {
+        this(System::currentTimeMillis);
+    }
+    
+    CatalogVersion(LongSupplier clock) {
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+        this.initial = new Stamp(epoch, 0, epoch);
+        this.catalog = new AtomicReference<>(initial);
+    }
+    
+    public Stamp catalog() {
+        return catalog.get();
+    }
+    
+    public Stamp category(String category) {
+        return category == null ? initial : categories.getOrDefault(category, initial);
+    }
+    
+    /**
+     * Records a change to products in the given categories; null categories only bump the
+     * catalog version.
+     */
+    public void markChanged(String... changedCategories) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(changedCategories);
+                }
+            });
+        } else {
+            bump(changedCategories);
+        }
+    }
+    
+    private void bump(String... changedCategories) {
+        long now = clock.getAsLong();
+        for (String category : changedCategories) {
+            if (category != null) {
+                categories.compute(category, (name, previous) -> (previous == null ? initial : previous).next(now));
+            }
+        }
+        catalog.updateAndGet(previous -> previous.next(now));
+    }
+    
+    /**
+     * A version number and when it was reached, rendered as a weak ETag and Last-Modified.
+     */
+    public record Stamp(long epoch, long version, long lastModified) {
+        
+        public String eTag() {
+            return eTag(null);
+        }
+        
+        /**
+         * The ETag of one representation of this version; a null variant is the default (JSON)
+         * one, any other is appended so encodings never validate each other.
+         */
+        public String eTag(String variant) {
+            String tag = Long.toString(epoch, 36) + "-" + version;
+            return "W/\"" + (variant == null ? tag : tag + "-" + variant) + "\"";
+        }
+        
+        /**
+         * Last-Modified and If-Modified-Since only carry whole seconds, so a change landing in
+         * the second already published moves to the start of the next one; otherwise a client
+         * validating by date alone would get a 304 for the new listing.
+         */
+        Stamp next(long now) {
+            return new Stamp(epoch, version + 1, Math.max(now, (lastModified / 1000 + 1) * 1000));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.productservice.cache;
+
+import com.ecommerce.productservice.model.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache for product-by-id lookups. Caffeine's W-TinyLFU policy evicts
+ * by size and entries expire after the configured TTL; ProductService writes through on
+ * create/update and invalidates on delete so readers never see a stale catalog entry. A
+ * write-through never replaces a higher version than its own.
+ *
+ * Rows read from the database outside {@link #get} are cached through
+ * {@link #putAllIfUnchanged}, which drops them if any write reached the cache after the read
+ * started, so a slow reader can never put back a row that an update already replaced.
+ */
+@Component
+public class ProductCache {
+    
+    private final Cache<Long, Product> cache;
+    private final AtomicLong writes = new AtomicLong();
+    
+    @Autowired
+    public ProductCache(@Value("${product.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${product.cache.ttl:10m}") Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+    
+    ProductCache(long maximumSize, Duration ttl, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+    
+    public Product get(Long id, Function<Long, Product> loader) {
+        return cache.get(id, loader);
+    }
+    
+    public Product getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+    
+    public Map<Long, Product> getAllPresent(Iterable<Long> ids) {
+        return cache.getAllPresent(ids);
+    }
+    
+    /**
+     * Take this before reading rows from the database that will be cached with
+     * {@link #putAllIfUnchanged}.
+     */
+    public long writeStamp() {
+        return writes.get();
+    }
+    
+    /**
+     * Caches products that are not cached yet, unless a put or invalidation happened since
+     * {@code stamp} was taken. Writers count themselves before touching an entry and the check
+     * runs inside the entry's compute, so a racing write always wins.
+     */
+    public void putAllIfUnchanged(Collection<Product> products, long stamp) {
+        for (Product product : products) {
+            if (product != null && product.getId() != null) {
+                cache.asMap().compute(product.getId(),
+                    (id, current) -> current == null && writes.get() == stamp ? product : current);
+            }
+        }
+    }
+    
+    /**
+     * Caches a freshly written product unless a newer version is already cached. Two writes
+     * to one product can commit in one order and arrive here in the other; comparing versions
+     * inside the entry's compute keeps the later commit either way.
+     */
+    public void put(Product product) {
+        if (product != null && product.getId() != null) {
+            writes.incrementAndGet();
+            cache.asMap().compute(product.getId(),
+                (id, current) -> current == null || current.getVersion() <= product.getVersion() ? product : current);
+        }
+    }
+    
+    public void invalidate(Long id) {
+        writes.incrementAndGet();
+        cache.invalidate(id);
+    }
+    
+    public void invalidateAll() {
+        writes.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    public ProductCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ProductCacheStats(cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+            stats.evictionCount(), stats.hitRate());
+    }
+    
+    void cleanUp() {
+        cache.cleanUp();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.productservice.cache;
+
+public class ProductCacheStats {
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final double hitRate;
+
+    public ProductCacheStats(long size, long hitCount, long missCount, long evictionCount, double hitRate) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.hitRate = hitRate;
+    }
+
+    public long getSize() { return size; }
+
+    public long getHitCount() { return hitCount; }
+
+    public long getMissCount() { return missCount; }
+
+    public long getEvictionCount() { return evictionCount; }
+
+    public double getHitRate() { return hitRate; }
+}
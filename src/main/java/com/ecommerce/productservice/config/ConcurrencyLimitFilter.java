@@ -0,0 +1,75 @@
+package com.ecommerce.productservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of /api requests handled at once.
+ *
+ * With platform threads Tomcat's worker pool already bounds concurrency, but with virtual
+ * threads every accepted connection gets its own thread and all of them would pile onto the
+ * connection pool. Requests wait up to the acquire timeout for a permit and are rejected
+ * with 503 and Retry-After after that. A limit of 0 disables the filter. Async requests
+ * release their permit when the handler returns, not when the response finishes streaming.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long acquireTimeoutNanos;
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    @Autowired
+    public ConcurrencyLimitFilter(@Value("${product.concurrency.max-concurrent-requests:0}") int maxConcurrentRequests,
+                                  @Value("${product.concurrency.acquire-timeout:500ms}") Duration acquireTimeout) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permits = new Semaphore(Math.max(maxConcurrentRequests, 0));
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return maxConcurrentRequests <= 0 || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedRequests.incrementAndGet();
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getAvailablePermits() { return permits.availablePermits(); }
+
+    public long getRejectedRequestCount() { return rejectedRequests.get(); }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.productservice.config;
+
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.repository.ProductRepository;
+import com.ecommerce.productservice.search.ProductAutocompleteIndex;
+import com.ecommerce.productservice.search.ProductCategoryIndex;
+import com.ecommerce.productservice.search.ProductSearchIndex;
+import com.ecommerce.productservice.search.ProductSkuIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeds the catalog if needed and fills the in-memory product indexes before the web server
+ * starts, so no request is ever answered from a half-built index and no write can race with
+ * the load. From then on ProductService keeps the indexes up to date.
+ */
+@Component
+public class ProductIndexLoader implements SmartLifecycle {
+    
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexLoader.class);
+    
+    private static final int BATCH_SIZE = 500;
+    
+    // Lifecycle beans start in ascending phase order; the embedded web server starts in the
+    // last phases, just below DEFAULT_PHASE
+    static final int PHASE = 0;
+    
+    private volatile boolean running;
+    
+    @Autowired
+    private DataLoader dataLoader;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    
+    @Autowired
+    private ProductAutocompleteIndex productAutocompleteIndex;
+    
+    @Autowired
+    private ProductCategoryIndex productCategoryIndex;
+    
+    @Autowired
+    private ProductSkuIndex productSkuIndex;
+    
+    @Override
+    public void start() {
+        try {
+            // Seeding is idempotent; running it here indexes the seed data before traffic arrives
+            dataLoader.run();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not seed the product catalog", e);
+        }
+        loadIndexes();
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    public void loadIndexes() {
+        int indexed = 0;
+        List<Product> batch = productRepository.findAllByOrderByIdAsc(PageRequest.of(0, BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            for (Product product : batch) {
+                productSearchIndex.index(product);
+                productAutocompleteIndex.index(product);
+                productCategoryIndex.index(product);
+                productSkuIndex.index(product);
+            }
+            indexed += batch.size();
+            Long lastId = batch.get(batch.size() - 1).getId();
+            batch = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BATCH_SIZE));
+        }
+        log.info("Indexed {} products for search, autocomplete, category listings and SKU lookup", indexed);
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.productservice.config;
+
+import com.ecommerce.productservice.telemetry.TelemetryClient;
+import com.ecommerce.productservice.telemetry.TracingInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private TelemetryClient telemetryClient;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TracingInterceptor(telemetryClient))
+                .addPathPatterns("/api/products", "/api/products/**", "/api/reactive/**");
+    }
+
+    /**
+     * Applied by Spring Boot to the application task executor, which also runs async MVC
+     * work such as the streaming export, so those tasks inherit the request's trace.
+     */
+    @Bean
+    public TaskDecorator traceContextTaskDecorator() {
+        return TelemetryClient.TraceContext::wrap;
+    }
+}
@@ -1,6 +1,22 @@
 package com.ecommerce.productservice.controller;
 
+import com.ecommerce.productservice.cache.CatalogVersion;
+import com.ecommerce.productservice.cache.ProductCacheStats;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.BulkUpsertResult;
+import com.ecommerce.productservice.model.CartAvailability;
+import com.ecommerce.productservice.model.CartLine;
+import com.ecommerce.productservice.model.CategoryListing;
+import com.ecommerce.productservice.model.CategorySummary;
 import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductBatch;
+import com.ecommerce.productservice.model.ProductFields;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import com.ecommerce.productservice.model.SkuResolution;
+import com.ecommerce.productservice.model.StockReservation;
+import com.ecommerce.productservice.search.Suggestion;
 import com.ecommerce.productservice.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -8,10 +24,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/products")
@@ -22,6 +51,14 @@ public class ProductController {
     @Autowired
     private ProductService productService;
     
+    @Autowired
+    private CatalogVersion catalogVersion;
+    
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    
+    @Value("${product.http-cache.listing-max-age:0s}")
+    private Duration listingMaxAge = Duration.ZERO;
+    
     @PostMapping
     @Operation(summary = "Create a new product", description = "Creates a new product in the catalog with the provided details")
     @ApiResponses(value = {
@@ -29,94 +66,414 @@ public class ProductController {
         @ApiResponse(responseCode = "400", description = "Invalid product data provided"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+    public ResponseEntity<ProductResponse> createProduct(@RequestBody Product product) {
         Product savedProduct = productService.createProduct(product);
-        return ResponseEntity.ok(savedProduct);
+        return ResponseEntity.ok(ProductMapper.toResponse(savedProduct));
+    }
+    
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create or update products", description = "Upserts up to 5000 products in one transaction using JDBC batching. Items whose ID matches an existing product are updated, all others are created. Returns one result per item in request order. Invalid items are reported as FAILED while the rest are written; a database error rolls back the whole request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Bulk upsert processed; see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Too many products in one request"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkUpsertResult> bulkUpsertProducts(@RequestBody List<Product> products) {
+        BulkUpsertResult result = productService.bulkUpsert(products);
+        return ResponseEntity.ok(result);
     }
     
     @GetMapping
-    @Operation(summary = "Retrieve all products", description = "Returns a list of all products in the catalog")
+    @Operation(summary = "Retrieve all products", description = "Returns a list of all products in the catalog. Prefer /api/products/page for large catalogs. With 'fields' only the named attributes are selected and returned. Carries a catalog-version ETag and Last-Modified for conditional GETs")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Catalog unchanged since If-None-Match / If-Modified-Since"),
+        @ApiResponse(responseCode = "400", description = "Unknown field requested"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<?>> getAllProducts(
+        @Parameter(description = "Comma-separated product attributes to return; id is always included", example = "name,price,stockQuantity")
+        @RequestParam(required = false) String fields,
+        WebRequest request) {
+        List<String> selected = fields == null ? null : ProductFields.parse(fields);
+        return listing(catalogVersion.catalog(), request, () -> selected == null
+            ? ProductMapper.toResponses(productService.getAllProducts())
+            : productService.getAllProductFields(selected));
+    }
+    
+    @GetMapping("/page")
+    @Operation(summary = "Retrieve a page of products", description = "Returns products ordered by ID using keyset pagination. Pass the nextCursor of a response as 'after' to fetch the following page. Carries a catalog-version ETag and Last-Modified for conditional GETs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product page retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Catalog unchanged since If-None-Match / If-Modified-Since"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<ProductPage> getProductsPage(
+        @Parameter(description = "Maximum number of products to return (1-500)", example = "50")
+        @RequestParam(defaultValue = "50") int limit,
+        @Parameter(description = "Cursor from a previous page; only products with a greater ID are returned", example = "15")
+        @RequestParam(required = false) Long after,
+        WebRequest request) {
+        return listing(catalogVersion.catalog(), request, () -> productService.getProductsPage(after, limit));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Search products", description = "Full-text search over product name, SKU, category and description. Every query term must match; results are ranked by relevance")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ProductSearchResult> searchProducts(
+        @Parameter(description = "Search terms", required = true, example = "wireless mouse")
+        @RequestParam("q") String query,
+        @Parameter(description = "Zero-based page number", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (1-500)", example = "20")
+        @RequestParam(defaultValue = "20") int size) {
+        ProductSearchResult result = productService.searchProducts(query, page, size);
+        return ResponseEntity.ok(result);
+    }
+    
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete product names and SKUs", description = "Returns up to 'limit' name and SKU completions for a prefix from an in-memory index without touching the database. Matches at the start of a name or SKU rank first, then shorter texts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Completions retrieved successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<Suggestion>> autocomplete(
+        @Parameter(description = "Text typed so far", required = true, example = "gam")
+        @RequestParam String prefix,
+        @Parameter(description = "Maximum number of completions (1-50)", example = "10")
+        @RequestParam(defaultValue = "10") int limit) {
+        List<Suggestion> suggestions = productService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    @GetMapping("/batch")
+    @Operation(summary = "Get products by IDs", description = "Retrieves up to 500 products in one request. Products are returned in request order and unknown IDs are listed in missingIds")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Too many product IDs requested"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ProductBatch> getProductsByIds(
+        @Parameter(description = "Comma-separated product IDs", required = true, example = "1,2,3")
+        @RequestParam List<Long> ids) {
+        ProductBatch batch = productService.getProductsByIds(ids);
+        return ResponseEntity.ok(batch);
     }
     
     @GetMapping("/{id}")
-    @Operation(summary = "Get product by ID", description = "Retrieves a specific product using its unique identifier")
+    @Operation(summary = "Get product by ID", description = "Retrieves a specific product using its unique identifier. The ETag carries the product version; a matching If-None-Match is answered with 304 and no body")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product found and returned successfully"),
+        @ApiResponse(responseCode = "304", description = "Product unchanged since the version in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Product> getProductById(
+    public ResponseEntity<ProductResponse> getProductById(
         @Parameter(description = "Unique identifier of the product", required = true, example = "1")
-        @PathVariable Long id) {
+        @PathVariable Long id,
+        WebRequest request) {
         Product product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        // A matching If-None-Match is turned into a 304 before the body is serialized
+        return ResponseEntity.ok().eTag(eTag(product, request)).body(ProductMapper.toResponse(product));
+    }
+    
+    @GetMapping("/sku/{sku}")
+    @Operation(summary = "Get product by SKU", description = "Retrieves the product with the given SKU through an in-memory SKU index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product found and returned successfully"),
+        @ApiResponse(responseCode = "404", description = "Product not found with the provided SKU"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ProductResponse> getProductBySku(
+        @Parameter(description = "Stock keeping unit of the product", required = true, example = "TECH-LAPTOP-001")
+        @PathVariable String sku,
+        WebRequest request) {
+        Product product = productService.getProductBySku(sku);
+        return ResponseEntity.ok().eTag(eTag(product, request)).body(ProductMapper.toResponse(product));
+    }
+    
+    @PostMapping("/sku/resolve")
+    @Operation(summary = "Resolve SKUs to product IDs", description = "Maps up to 100000 SKUs to product IDs in one request. Known SKUs are returned in request order and unknown ones are listed in missingSkus")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "SKUs resolved successfully"),
+        @ApiResponse(responseCode = "400", description = "Too many SKUs in one request"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<SkuResolution> resolveSkus(@RequestBody List<String> skus) {
+        SkuResolution resolution = productService.resolveSkus(skus);
+        return ResponseEntity.ok(resolution);
     }
     
     @GetMapping("/category/{category}")
-    @Operation(summary = "Get products by category", description = "Retrieves all products that belong to a specific category")
+    @Operation(summary = "Get products by category", description = "Retrieves all products that belong to a specific category. With 'fields' only the named attributes are selected and returned. Carries a category-version ETag and Last-Modified for conditional GETs")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Products retrieved successfully for the category"),
+        @ApiResponse(responseCode = "304", description = "Category unchanged since If-None-Match / If-Modified-Since"),
+        @ApiResponse(responseCode = "400", description = "Unknown field requested"),
         @ApiResponse(responseCode = "404", description = "No products found for the specified category"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Product>> getProductsByCategory(
+    public ResponseEntity<List<?>> getProductsByCategory(
         @Parameter(description = "Product category to filter by", required = true, example = "Electronics")
-        @PathVariable String category) {
-        List<Product> products = productService.getProductsByCategory(category);
-        return ResponseEntity.ok(products);
+        @PathVariable String category,
+        @Parameter(description = "Comma-separated product attributes to return; id is always included", example = "name,price,stockQuantity")
+        @RequestParam(required = false) String fields,
+        WebRequest request) {
+        List<String> selected = fields == null ? null : ProductFields.parse(fields);
+        return listing(catalogVersion.category(category), request, () -> selected == null
+            ? ProductMapper.toResponses(productService.getProductsByCategory(category))
+            : productService.getProductFieldsByCategory(category, selected));
+    }
+    
+    @GetMapping("/category/{category}/page")
+    @Operation(summary = "Get a page of products in a category", description = "Returns one page of a category's products sorted by id or by price, served from the in-memory category index. Carries a category-version ETag and Last-Modified for conditional GETs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category page retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Category unchanged since If-None-Match / If-Modified-Since"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort order"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CategoryListing> getProductsByCategoryPage(
+        @Parameter(description = "Product category to list", required = true, example = "Electronics")
+        @PathVariable String category,
+        @Parameter(description = "Zero-based page number", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        @Parameter(description = "Page size (1-500)", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "Sort order: id or price (cheapest first)", example = "price")
+        @RequestParam(defaultValue = "id") String sort,
+        WebRequest request) {
+        return listing(catalogVersion.category(category), request,
+            () -> productService.getProductsByCategoryPage(category, page, size, sort));
+    }
+    
+    @GetMapping("/category/{category}/summary")
+    @Operation(summary = "Get category summary", description = "Returns the product count and the minimum and maximum price of a category, maintained incrementally as products change. Carries a category-version ETag and Last-Modified for conditional GETs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category summary retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Category unchanged since If-None-Match / If-Modified-Since"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CategorySummary> getCategorySummary(
+        @Parameter(description = "Product category to summarize", required = true, example = "Electronics")
+        @PathVariable String category,
+        WebRequest request) {
+        return listing(catalogVersion.category(category), request, () -> productService.getCategorySummary(category));
+    }
+    
+    @GetMapping("/categories/summary")
+    @Operation(summary = "Get all category summaries", description = "Returns the summary of every category that has products, sorted by category name. Carries a catalog-version ETag and Last-Modified for conditional GETs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category summaries retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Catalog unchanged since If-None-Match / If-Modified-Since"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<CategorySummary>> getCategorySummaries(WebRequest request) {
+        return listing(catalogVersion.catalog(), request, productService::getCategorySummaries);
     }
     
     @PutMapping("/{id}")
-    @Operation(summary = "Update product", description = "Updates an existing product with new information")
+    @Operation(summary = "Update product", description = "Updates an existing product with new information. With If-Match the update only applies if the product is still at that version")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid product data provided"),
         @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
+        @ApiResponse(responseCode = "409", description = "Product was changed concurrently"),
+        @ApiResponse(responseCode = "412", description = "Product no longer matches If-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Product> updateProduct(
+    public ResponseEntity<ProductResponse> updateProduct(
         @Parameter(description = "Unique identifier of the product to update", required = true, example = "1")
-        @PathVariable Long id, @RequestBody Product product) {
-        Product updatedProduct = productService.updateProduct(id, product);
-        return ResponseEntity.ok(updatedProduct);
+        @PathVariable Long id, @RequestBody Product product,
+        @Parameter(description = "ETag of the product version this update is based on", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        WebRequest request) {
+        Product updatedProduct = productService.updateProduct(id, product, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedProduct, request)).body(ProductMapper.toResponse(updatedProduct));
     }
     
     @PutMapping("/{id}/stock")
-    @Operation(summary = "Update product stock", description = "Updates the inventory quantity for a specific product")
+    @Operation(summary = "Update product stock", description = "Updates the inventory quantity for a specific product. With If-Match the update only applies if the product is still at that version")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product stock updated successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid stock quantity provided"),
         @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
+        @ApiResponse(responseCode = "409", description = "Product was changed concurrently"),
+        @ApiResponse(responseCode = "412", description = "Product no longer matches If-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<Product> updateStock(
+    public ResponseEntity<ProductResponse> updateStock(
         @Parameter(description = "Unique identifier of the product to update stock for", required = true, example = "1")
+        @PathVariable Long id, @RequestBody StockUpdateRequest request,
+        @Parameter(description = "ETag of the product version this update is based on", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        WebRequest webRequest) {
+        Product product = productService.updateStock(id, request.getQuantity(), expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(product, webRequest)).body(ProductMapper.toResponse(product));
+    }
+    
+    @PostMapping("/{id}/reserve")
+    @Operation(summary = "Reserve product stock", description = "Atomically decrements the inventory of a product if enough stock is available")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stock reserved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid reservation quantity provided"),
+        @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
+        @ApiResponse(responseCode = "409", description = "Insufficient stock; nothing was reserved"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StockReservation> reserveStock(
+        @Parameter(description = "Unique identifier of the product to reserve stock for", required = true, example = "1")
         @PathVariable Long id, @RequestBody StockUpdateRequest request) {
-        Product product = productService.updateStock(id, request.getQuantity());
-        return ResponseEntity.ok(product);
+        StockReservation reservation = productService.reserveStock(id, request.getQuantity());
+        HttpStatus status = reservation.isReserved() ? HttpStatus.OK : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(reservation);
+    }
+    
+    @PostMapping("/availability")
+    @Operation(summary = "Check cart availability", description = "Checks stock for up to 500 (productId, quantity) lines with a single query and returns a verdict per line. Quantities of repeated products are summed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability checked successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cart lines provided"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CartAvailability> checkAvailability(@RequestBody List<CartLine> lines) {
+        CartAvailability availability = productService.checkAvailability(lines);
+        return ResponseEntity.ok(availability);
     }
     
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete product", description = "Removes a product from the catalog permanently")
+    @Operation(summary = "Delete product", description = "Removes a product from the catalog permanently. With If-Match the product is only deleted if it is still at that version")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Product deleted successfully"),
         @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
+        @ApiResponse(responseCode = "409", description = "Product was changed concurrently"),
+        @ApiResponse(responseCode = "412", description = "Product no longer matches If-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Void> deleteProduct(
         @Parameter(description = "Unique identifier of the product to delete", required = true, example = "1")
-        @PathVariable Long id) {
-        productService.deleteProduct(id);
+        @PathVariable Long id,
+        @Parameter(description = "ETag of the product version this delete is based on", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.deleteProduct(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
     
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get product cache statistics", description = "Returns size, hit, miss and eviction counters for the product-by-ID cache")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully")
+    })
+    public ResponseEntity<ProductCacheStats> getCacheStats() {
+        return ResponseEntity.ok(productService.getCacheStats());
+    }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleVersionConflict(OptimisticLockingFailureException e, WebRequest request) {
+        // A failed If-Match precondition is 412; losing a race without one is a plain conflict
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+            ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body("Product was modified by another request");
+    }
+    
+    /**
+     * Answers a listing GET, checking the client's validators against the catalog or category
+     * version before the listing is built, so an unchanged listing costs no query at all. The
+     * ETag names the encoding the client will get, so a JSON tag never revalidates CBOR.
+     */
+    private <T> ResponseEntity<T> listing(CatalogVersion.Stamp stamp, WebRequest request, Supplier<T> body) {
+        CacheControl cacheControl = listingMaxAge.isZero()
+            ? CacheControl.noCache().cachePublic()
+            : CacheControl.maxAge(listingMaxAge).cachePublic();
+        String eTag = stamp.eTag(representation(request));
+        if (request.checkNotModified(eTag, stamp.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .lastModified(stamp.lastModified())
+            .cacheControl(cacheControl)
+            .body(body.get());
+    }
+    
+    /**
+     * Encoding message conversion will pick for this request: the first acceptable type in
+     * preference order that JSON, CBOR or Smile satisfies, with JSON winning wildcards as it
+     * does in the converter list. Null means JSON.
+     */
+    private static String representation(WebRequest request) {
+        String[] acceptHeaders = request.getHeaderValues(HttpHeaders.ACCEPT);
+        if (acceptHeaders == null) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(List.of(acceptHeaders)));
+            // Same preference order the header negotiation strategy uses: quality, then specificity
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (InvalidMediaTypeException | InvalidMimeTypeException e) {
+            return null;
+        }
+        for (MediaType type : accepted) {
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (type.includes(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+            if (type.includes(SMILE)) {
+                return "smile";
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Strong ETag of one encoding of a product version: {@code "3"} for JSON, {@code "3-cbor"}
+     * and {@code "3-smile"} for the binary encodings, so validators never cross encodings.
+     */
+    private static String eTag(Product product, WebRequest request) {
+        String variant = representation(request);
+        return "\"" + product.getVersion() + (variant == null ? "" : "-" + variant) + "\"";
+    }
+    
+    /**
+     * Version named by an If-Match header, or null when the write is unconditional. If-Match
+     * uses strong comparison, so weak or unparseable tags yield a version that never matches.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        String opaque = tag.substring(1, tag.length() - 1);
+        // Any encoding's tag names the same version, so a CBOR client can send back its own tag
+        int variant = opaque.indexOf('-');
+        if (variant > 0 && isVariant(opaque.substring(variant + 1))) {
+            opaque = opaque.substring(0, variant);
+        }
+        try {
+            return Long.parseLong(opaque);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+    
+    private static boolean isVariant(String suffix) {
+        return suffix.equals("cbor") || suffix.equals("smile");
+    }
+    
     public static class StockUpdateRequest {
         private Integer quantity;
         
@@ -0,0 +1,76 @@
+package com.ecommerce.productservice.controller;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.service.ProductService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@RestController
+@RequestMapping("/api/products")
+@CrossOrigin(origins = "*")
+@Tag(name = "Product Export", description = "API for streaming the full product catalog to downstream systems")
+public class ProductExportController {
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${product.export.batch-size:500}")
+    private int batchSize;
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the product catalog", description = "Streams every product as newline-delimited JSON, reading the catalog in keyset batches so memory use stays constant regardless of catalog size")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Catalog export streamed successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = this::writeCatalog;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
+    private void writeCatalog(OutputStream outputStream) throws IOException {
+        // Flushing is done once per batch rather than once per product
+        ObjectWriter writer = objectMapper.writerFor(ProductResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            
+            Long cursor = null;
+            do {
+                ProductPage page = productService.getProductsPage(cursor, batchSize);
+                for (ProductResponse product : page.getProducts()) {
+                    writer.writeValue(generator, product);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        }
+    }
+}
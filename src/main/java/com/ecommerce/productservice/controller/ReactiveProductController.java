@@ -0,0 +1,63 @@
+package com.ecommerce.productservice.controller;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.service.ReactiveProductService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/reactive/products")
+@CrossOrigin(origins = "*")
+@Tag(name = "Reactive Product Reads", description = "Non-blocking read API; list endpoints stream one product per line as they are read")
+public class ReactiveProductController {
+    
+    @Autowired
+    private ReactiveProductService reactiveProductService;
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get product by ID", description = "Emits the product from the cache when present, otherwise loads it off the request thread")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product found and returned successfully"),
+        @ApiResponse(responseCode = "404", description = "Product not found with the provided ID"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Mono<ProductResponse> getProductById(
+        @Parameter(description = "Unique identifier of the product", required = true, example = "1")
+        @PathVariable Long id) {
+        return reactiveProductService.getProductById(id);
+    }
+    
+    @GetMapping(value = "/category/{category}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream products by category", description = "Streams every product in the category as newline-delimited JSON. Products are read in keyset pages as the client consumes them, so the category is never loaded at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products streamed successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Flux<ProductResponse> getProductsByCategory(
+        @Parameter(description = "Product category to filter by", required = true, example = "Electronics")
+        @PathVariable String category) {
+        return reactiveProductService.getProductsByCategory(category);
+    }
+    
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream search results", description = "Streams the best 'limit' search matches, most relevant first, as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results streamed successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public Flux<ProductResponse> searchProducts(
+        @Parameter(description = "Search terms", required = true, example = "wireless mouse")
+        @RequestParam("q") String query,
+        @Parameter(description = "Maximum number of results (1-500)", example = "20")
+        @RequestParam(defaultValue = "20") int limit) {
+        return reactiveProductService.searchProducts(query, limit);
+    }
+}
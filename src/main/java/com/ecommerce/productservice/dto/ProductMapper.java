@@ -0,0 +1,36 @@
+package com.ecommerce.productservice.dto;
+
+import com.ecommerce.productservice.model.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps Product entities to their API representation.
+ */
+public final class ProductMapper {
+    
+    private ProductMapper() {
+    }
+    
+    public static ProductResponse toResponse(Product product) {
+        return new ProductResponse(
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            product.getPrice(),
+            product.getStockQuantity(),
+            product.getCategory(),
+            product.getImageUrl(),
+            product.getSku(),
+            product.getVersion());
+    }
+    
+    public static List<ProductResponse> toResponses(List<Product> products) {
+        List<ProductResponse> responses = new ArrayList<>(products.size());
+        for (Product product : products) {
+            responses.add(toResponse(product));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.productservice.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable API view of a product. Controllers return this instead of the JPA entity, so
+ * serialization never reflects over a Hibernate-managed object or touches lazy state. The
+ * JSON shape is the same as the entity's.
+ */
+@JsonSerialize(using = ProductResponseSerializer.class)
+public record ProductResponse(
+    Long id,
+    String name,
+    String description,
+    BigDecimal price,
+    Integer stockQuantity,
+    String category,
+    String imageUrl,
+    String sku,
+    long version) {
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.productservice.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written serializer for ProductResponse, which is how every product endpoint writes a
+ * product: single reads, listings, pages, batches, search and category results, the NDJSON
+ * export and the reactive streams. Property names are encoded once up
+ * front and each field is written with a direct generator call, skipping the per-property
+ * bean introspection and dispatch of the default record serializer. Works for JSON, Smile and
+ * CBOR generators alike.
+ */
+public class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+    
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString STOCK_QUANTITY = new SerializedString("stockQuantity");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString IMAGE_URL = new SerializedString("imageUrl");
+    private static final SerializableString SKU = new SerializedString("sku");
+    private static final SerializableString VERSION = new SerializedString("version");
+    
+    public ProductResponseSerializer() {
+        super(ProductResponse.class);
+    }
+    
+    @Override
+    public void serialize(ProductResponse product, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(product);
+        gen.writeFieldName(ID);
+        if (product.id() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(product.id());
+        }
+        writeString(gen, NAME, product.name());
+        writeString(gen, DESCRIPTION, product.description());
+        gen.writeFieldName(PRICE);
+        BigDecimal price = product.price();
+        if (price == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(price);
+        }
+        gen.writeFieldName(STOCK_QUANTITY);
+        if (product.stockQuantity() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(product.stockQuantity());
+        }
+        writeString(gen, CATEGORY, product.category());
+        writeString(gen, IMAGE_URL, product.imageUrl());
+        writeString(gen, SKU, product.sku());
+        gen.writeFieldName(VERSION);
+        gen.writeNumber(product.version());
+        gen.writeEndObject();
+    }
+    
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.productservice.model;
+
+public class BulkItemResult {
+    
+    public enum Status { CREATED, UPDATED, FAILED }
+    
+    private final int index;
+    private final Long id;
+    private final Status status;
+    private final String error;
+
+    public BulkItemResult(int index, Long id, Status status, String error) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.error = error;
+    }
+
+    public int getIndex() { return index; }
+
+    public Long getId() { return id; }
+
+    public Status getStatus() { return status; }
+
+    public String getError() { return error; }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.productservice.model;
+
+import java.util.List;
+
+/**
+ * Per-item outcome of a bulk upsert; {@code items} is in the same order as the request.
+ */
+public class BulkUpsertResult {
+    private final List<BulkItemResult> items;
+
+    public BulkUpsertResult(List<BulkItemResult> items) {
+        this.items = items;
+    }
+
+    public List<BulkItemResult> getItems() { return items; }
+
+    public long getCreated() { return count(BulkItemResult.Status.CREATED); }
+
+    public long getUpdated() { return count(BulkItemResult.Status.UPDATED); }
+
+    public long getFailed() { return count(BulkItemResult.Status.FAILED); }
+
+    private long count(BulkItemResult.Status status) {
+        return items.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
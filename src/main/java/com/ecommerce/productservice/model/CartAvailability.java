@@ -0,0 +1,45 @@
+package com.ecommerce.productservice.model;
+
+import java.util.List;
+
+/**
+ * Availability verdict for a whole cart. Lines are reported in request order; when a product
+ * appears on several lines their quantities are summed before comparing against stock.
+ */
+public class CartAvailability {
+    private final List<Line> lines;
+
+    public CartAvailability(List<Line> lines) {
+        this.lines = lines;
+    }
+
+    public List<Line> getLines() { return lines; }
+
+    public boolean isAvailable() {
+        return lines.stream().allMatch(Line::isAvailable);
+    }
+
+    public static class Line {
+        private final Long productId;
+        private final int requestedQuantity;
+        private final Integer stockQuantity;
+        private final boolean available;
+
+        public Line(Long productId, int requestedQuantity, Integer stockQuantity, boolean available) {
+            this.productId = productId;
+            this.requestedQuantity = requestedQuantity;
+            this.stockQuantity = stockQuantity;
+            this.available = available;
+        }
+
+        public Long getProductId() { return productId; }
+
+        public int getRequestedQuantity() { return requestedQuantity; }
+
+        public Integer getStockQuantity() { return stockQuantity; }
+
+        public boolean isFound() { return stockQuantity != null; }
+
+        public boolean isAvailable() { return available; }
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.productservice.model;
+
+public class CartLine {
+    private Long productId;
+    private Integer quantity;
+
+    public CartLine() {}
+
+    public CartLine(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.productservice.model;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+
+import java.util.List;
+
+public class CategoryListing {
+    private final String category;
+    private final int total;
+    private final int page;
+    private final int size;
+    private final String sort;
+    private final List<ProductResponse> products;
+
+    public CategoryListing(String category, int total, int page, int size, String sort, List<ProductResponse> products) {
+        this.category = category;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.sort = sort;
+        this.products = products;
+    }
+
+    public String getCategory() { return category; }
+
+    public int getTotal() { return total; }
+
+    public int getPage() { return page; }
+
+    public int getSize() { return size; }
+
+    public String getSort() { return sort; }
+
+    public List<ProductResponse> getProducts() { return products; }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.productservice.model;
+
+import java.math.BigDecimal;
+
+public class CategorySummary {
+    private final String category;
+    private final int productCount;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+
+    public CategorySummary(String category, int productCount, BigDecimal minPrice, BigDecimal maxPrice) {
+        this.category = category;
+        this.productCount = productCount;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public String getCategory() { return category; }
+
+    public int getProductCount() { return productCount; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.productservice.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -8,10 +9,16 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+       indexes = @Index(name = "idx_products_category", columnList = "category"),
+       uniqueConstraints = @UniqueConstraint(name = Product.SKU_CONSTRAINT, columnNames = "sku"))
 public class Product {
+    public static final String SKU_CONSTRAINT = "uk_products_sku";
+    
+    // Sequence with a pooled optimizer instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank
@@ -30,6 +37,12 @@ public class Product {
     private String imageUrl;
     private String sku;
 
+    // Optimistic lock: every update bumps it, and writes based on an older version fail.
+    // Primitive so Spring Data still decides isNew() from the id
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     public Product() {}
 
     public Product(String name, String description, BigDecimal price, Integer stockQuantity) {
@@ -63,4 +76,7 @@ public class Product {
     
     public String getSku() { return sku; }
     public void setSku(String sku) { this.sku = sku; }
+    
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.ecommerce.productservice.model;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: the products that were found, in request order, and the
+ * requested ids that do not exist.
+ */
+public class ProductBatch {
+    private final List<ProductResponse> products;
+    private final List<Long> missingIds;
+
+    public ProductBatch(List<ProductResponse> products, List<Long> missingIds) {
+        this.products = products;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductResponse> getProducts() { return products; }
+
+    public List<Long> getMissingIds() { return missingIds; }
+}
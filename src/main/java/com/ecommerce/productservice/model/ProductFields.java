@@ -0,0 +1,38 @@
+package com.ecommerce.productservice.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses the {@code fields=} parameter of product listings into the Product attributes to
+ * select. The id is always included so callers can correlate rows.
+ */
+public final class ProductFields {
+    
+    public static final List<String> ALL = List.of(
+        "id", "name", "description", "price", "stockQuantity", "category", "imageUrl", "sku", "version");
+    
+    private ProductFields() {
+    }
+    
+    /**
+     * Returns the requested fields, id first and the rest in request order without duplicates.
+     */
+    public static List<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!ALL.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name + ". Supported fields: " + String.join(",", ALL));
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+}
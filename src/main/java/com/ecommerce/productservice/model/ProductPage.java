@@ -0,0 +1,25 @@
+package com.ecommerce.productservice.model;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated product listing. {@code nextCursor} is the id to pass as
+ * {@code after} to fetch the following page, or {@code null} when the listing is exhausted.
+ */
+public class ProductPage {
+    private final List<ProductResponse> products;
+    private final Long nextCursor;
+
+    public ProductPage(List<ProductResponse> products, Long nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ProductResponse> getProducts() { return products; }
+
+    public Long getNextCursor() { return nextCursor; }
+
+    public boolean isHasMore() { return nextCursor != null; }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.productservice.model;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+
+import java.util.List;
+
+public class ProductSearchResult {
+    private final String query;
+    private final int total;
+    private final int page;
+    private final int size;
+    private final List<ProductResponse> products;
+
+    public ProductSearchResult(String query, int total, int page, int size, List<ProductResponse> products) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.products = products;
+    }
+
+    public String getQuery() { return query; }
+
+    public int getTotal() { return total; }
+
+    public int getPage() { return page; }
+
+    public int getSize() { return size; }
+
+    public List<ProductResponse> getProducts() { return products; }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.productservice.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a SKU resolution: the product id of every known SKU, in request order, and the
+ * requested SKUs that no product carries.
+ */
+public class SkuResolution {
+    private final Map<String, Long> productIds;
+    private final List<String> missingSkus;
+
+    public SkuResolution(Map<String, Long> productIds, List<String> missingSkus) {
+        this.productIds = productIds;
+        this.missingSkus = missingSkus;
+    }
+
+    public Map<String, Long> getProductIds() { return productIds; }
+
+    public List<String> getMissingSkus() { return missingSkus; }
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.productservice.model;
+
+/**
+ * Outcome of an atomic stock reservation: {@code reserved} is false when the product
+ * did not have enough stock and nothing was decremented.
+ */
+public class StockReservation {
+    private final Long productId;
+    private final int quantity;
+    private final boolean reserved;
+
+    public StockReservation(Long productId, int quantity, boolean reserved) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.reserved = reserved;
+    }
+
+    public Long getProductId() { return productId; }
+
+    public int getQuantity() { return quantity; }
+
+    public boolean isReserved() { return reserved; }
+}
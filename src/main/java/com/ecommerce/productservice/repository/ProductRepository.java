@@ -1,13 +1,43 @@
 package com.ecommerce.productservice.repository;
 
 import com.ecommerce.productservice.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     List<Product> findByCategory(String category);
     List<Product> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+    Optional<Product> findBySku(String sku);
+
+    // Keyset pagination on the primary key: callers pass PageRequest.of(0, size) so no
+    // OFFSET or count query is issued and every page costs the same index range scan.
+    List<Product> findAllByOrderByIdAsc(Pageable pageable);
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<Product> findByCategoryOrderByIdAsc(String category, Pageable pageable);
+    List<Product> findByCategoryAndIdGreaterThanOrderByIdAsc(String category, Long id, Pageable pageable);
+
+    @Query("select p.id as id, p.stockQuantity as stockQuantity from Product p where p.id in :ids")
+    List<StockLevel> findStockLevelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as id, p.sku as sku from Product p where p.sku in :skus")
+    List<SkuMapping> findSkuMappingsBySkuIn(@Param("skus") Collection<String> skus);
+
+    // Single conditional UPDATE so concurrent reservations can never drive stock negative;
+    // returns 1 when the stock was decremented and 0 when there was not enough of it. The version
+    // is bumped as well so conditional writes based on the old stock level are rejected
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 " +
+           "where p.id = :id and p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+}
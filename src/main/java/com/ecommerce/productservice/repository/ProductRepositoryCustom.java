@@ -0,0 +1,20 @@
+package com.ecommerce.productservice.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projection queries that select only the requested Product columns.
+ */
+public interface ProductRepositoryCustom {
+    
+    /**
+     * Returns one row per product, ordered by id, holding only the given attributes.
+     */
+    List<Map<String, Object>> findAllProjected(List<String> fields);
+    
+    /**
+     * Returns one row per product in the category, ordered by id, holding only the given attributes.
+     */
+    List<Map<String, Object>> findByCategoryProjected(String category, List<String> fields);
+}
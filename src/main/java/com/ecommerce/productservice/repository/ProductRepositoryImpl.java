@@ -0,0 +1,62 @@
+package com.ecommerce.productservice.repository;
+
+import com.ecommerce.productservice.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds tuple queries whose SELECT list is exactly the requested attributes, so unrequested
+ * columns are neither read from the database nor hydrated into entities.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<Map<String, Object>> findAllProjected(List<String> fields) {
+        return findProjected(null, fields);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findByCategoryProjected(String category, List<String> fields) {
+        return findProjected(category, fields);
+    }
+    
+    private List<Map<String, Object>> findProjected(String category, List<String> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(product.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (category != null) {
+            query.where(builder.equal(product.get("category"), category));
+        }
+        query.orderBy(builder.asc(product.get("id")));
+        
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.productservice.repository;
+
+/**
+ * Interface projection over the two columns a SKU resolution needs.
+ */
+public interface SkuMapping {
+    Long getId();
+    String getSku();
+}
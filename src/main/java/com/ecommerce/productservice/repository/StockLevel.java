@@ -0,0 +1,9 @@
+package com.ecommerce.productservice.repository;
+
+/**
+ * Interface projection over the two columns an availability check needs.
+ */
+public interface StockLevel {
+    Long getId();
+    Integer getStockQuantity();
+}
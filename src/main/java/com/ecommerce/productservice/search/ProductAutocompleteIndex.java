@@ -0,0 +1,140 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted prefix index for search-as-you-type over product names and SKUs.
+ *
+ * Keys are normalized text (lower-cased words separated by single spaces) so a prefix lookup
+ * is a range scan of the skip list starting at the prefix. Names are also indexed from the
+ * start of every word, so "lap" completes "Gaming Laptop Pro". Reads are lock-free and never
+ * touch the database. A re-indexed product adds its new keys before dropping stale ones, so
+ * a concurrent reader may briefly see the old text but never misses the product.
+ *
+ * Completions are ranked: matches at the start of a name or SKU come before matches on an
+ * inner word, then shorter texts (closer to the prefix) come first, then key order. Ranking
+ * only looks at the first {@value #MAX_CANDIDATES} matching keys so a one-letter prefix stays
+ * a bounded scan.
+ */
+@Component
+public class ProductAutocompleteIndex {
+    
+    private static final char KEY_SEPARATOR = '\u0000';
+    
+    static final int MAX_CANDIDATES = 512;
+    
+    private static final Comparator<Entry> RANKING = Comparator
+        .comparingInt(Entry::wordPosition)
+        .thenComparingInt(entry -> entry.suggestion().getText().length());
+    
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<String>> keysByProduct = new ConcurrentHashMap<>();
+    
+    public synchronized void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        Long productId = product.getId();
+        
+        List<String> keys = new ArrayList<>();
+        List<String> nameWords = ProductSearchIndex.tokenize(product.getName());
+        for (int i = 0; i < nameWords.size(); i++) {
+            String key = String.join(" ", nameWords.subList(i, nameWords.size()));
+            addEntry(keys, key, new Entry(new Suggestion(productId, product.getName(), Suggestion.Type.NAME), i));
+        }
+        String sku = normalize(product.getSku());
+        if (!sku.isEmpty()) {
+            addEntry(keys, sku, new Entry(new Suggestion(productId, product.getSku(), Suggestion.Type.SKU), 0));
+        }
+        
+        // New keys are in place before stale ones go, so readers never see the product missing
+        List<String> previousKeys = keysByProduct.put(productId, keys);
+        if (previousKeys != null) {
+            Set<String> current = new HashSet<>(keys);
+            for (String key : previousKeys) {
+                if (!current.contains(key)) {
+                    entries.remove(key);
+                }
+            }
+        }
+    }
+    
+    public synchronized void remove(Long productId) {
+        removeKeys(productId);
+    }
+    
+    public int size() {
+        return keysByProduct.size();
+    }
+    
+    /**
+     * Returns up to {@code limit} ranked completions for the prefix, at most one per product
+     * and suggestion type.
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        List<Suggestion> suggestions = new ArrayList<>();
+        if (normalized.isEmpty() || limit <= 0) {
+            return suggestions;
+        }
+        NavigableMap<String, Entry> range =
+            entries.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+        // Best entry per product and type, in key order so ties keep it after the stable sort
+        Map<String, Entry> best = new LinkedHashMap<>();
+        int scanned = 0;
+        for (Entry entry : range.values()) {
+            Suggestion suggestion = entry.suggestion();
+            best.merge(suggestion.getProductId() + ":" + suggestion.getType(), entry,
+                (current, candidate) -> RANKING.compare(candidate, current) < 0 ? candidate : current);
+            if (++scanned == MAX_CANDIDATES) {
+                break;
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(best.values());
+        ranked.sort(RANKING);
+        for (Entry entry : ranked) {
+            suggestions.add(entry.suggestion());
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+    
+    static String normalize(String text) {
+        return String.join(" ", ProductSearchIndex.tokenize(text));
+    }
+    
+    private void addEntry(List<String> keys, String text, Entry entry) {
+        // The product id and type keep keys unique when several products share a name
+        Suggestion suggestion = entry.suggestion();
+        String key = text + KEY_SEPARATOR + suggestion.getProductId() + KEY_SEPARATOR + suggestion.getType();
+        entries.put(key, entry);
+        keys.add(key);
+    }
+    
+    private void removeKeys(Long productId) {
+        List<String> keys = keysByProduct.remove(productId);
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+    }
+    
+    /**
+     * A suggestion and the index of the name word its key starts at (0 for whole names and SKUs).
+     */
+    private record Entry(Suggestion suggestion, int wordPosition) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.CategorySummary;
+import com.ecommerce.productservice.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory category to product id index with per-category price statistics.
+ *
+ * Each category keeps its products sorted by id and by (price, id), so a listing page is a
+ * walk over an already sorted set, and a multiset of prices, so the product count and the
+ * min/max price are read in O(log n) and updated incrementally on every write instead of
+ * being recomputed by scanning. ProductService keeps the index up to date and
+ * ProductIndexLoader fills it at startup. Category names match exactly, as in
+ * ProductRepository.findByCategory.
+ */
+@Component
+public class ProductCategoryIndex {
+    
+    public enum SortOrder { ID, PRICE }
+    
+    // Cheapest first; products without a price sort last, ties broken by id
+    private static final Comparator<Entry> PRICE_ORDER = Comparator
+        .comparing(Entry::price, Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()))
+        .thenComparingLong(Entry::productId);
+    
+    private final Map<String, Category> categories = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeEntry(product.getId());
+            if (product.getCategory() != null) {
+                Entry entry = new Entry(product.getId(), product.getCategory(), product.getPrice());
+                categories.computeIfAbsent(entry.category(), name -> new Category()).add(entry);
+                entries.put(entry.productId(), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Category the product is currently indexed under, or null when it is not indexed.
+     */
+    public String categoryOf(Long productId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(productId);
+            return entry == null ? null : entry.category();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns one page of a category's product ids in the requested order, plus the number
+     * of products in the category.
+     */
+    public SearchHits page(String category, SortOrder sortOrder, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Category indexed = categories.get(category);
+            if (indexed == null || offset >= indexed.byId.size()) {
+                return new SearchHits(indexed == null ? 0 : indexed.byId.size(), List.of());
+            }
+            Iterator<Long> ids = sortOrder == SortOrder.PRICE
+                ? indexed.byPrice.stream().map(Entry::productId).iterator()
+                : indexed.byId.iterator();
+            for (int skipped = 0; skipped < offset && ids.hasNext(); skipped++) {
+                ids.next();
+            }
+            List<Long> page = new ArrayList<>(Math.min(limit, indexed.byId.size() - offset));
+            while (page.size() < limit && ids.hasNext()) {
+                page.add(ids.next());
+            }
+            return new SearchHits(indexed.byId.size(), page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public CategorySummary summary(String category) {
+        lock.readLock().lock();
+        try {
+            Category indexed = categories.get(category);
+            return indexed == null ? new CategorySummary(category, 0, null, null) : indexed.summary(category);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Summaries of every category, sorted by category name.
+     */
+    public List<CategorySummary> summaries() {
+        lock.readLock().lock();
+        try {
+            List<CategorySummary> summaries = new ArrayList<>(categories.size());
+            new TreeMap<>(categories).forEach((name, indexed) -> summaries.add(indexed.summary(name)));
+            return summaries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void removeEntry(Long productId) {
+        Entry previous = entries.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        Category category = categories.get(previous.category());
+        category.remove(previous);
+        if (category.byId.isEmpty()) {
+            categories.remove(previous.category());
+        }
+    }
+    
+    private record Entry(long productId, String category, BigDecimal price) {
+    }
+    
+    private static final class Category {
+        private final NavigableSet<Long> byId = new TreeSet<>();
+        private final NavigableSet<Entry> byPrice = new TreeSet<>(PRICE_ORDER);
+        // Price multiset: how many products in the category have each price
+        private final TreeMap<BigDecimal, Integer> prices = new TreeMap<>();
+        
+        void add(Entry entry) {
+            byId.add(entry.productId());
+            byPrice.add(entry);
+            if (entry.price() != null) {
+                prices.merge(entry.price(), 1, Integer::sum);
+            }
+        }
+        
+        void remove(Entry entry) {
+            byId.remove(entry.productId());
+            byPrice.remove(entry);
+            if (entry.price() != null) {
+                prices.computeIfPresent(entry.price(), (price, count) -> count == 1 ? null : count - 1);
+            }
+        }
+        
+        CategorySummary summary(String name) {
+            return new CategorySummary(name, byId.size(),
+                prices.isEmpty() ? null : prices.firstKey(),
+                prices.isEmpty() ? null : prices.lastKey());
+        }
+    }
+}
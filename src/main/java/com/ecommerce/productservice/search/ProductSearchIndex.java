@@ -0,0 +1,183 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over product name, SKU, category and description.
+ *
+ * Every term maps to the products containing it together with a field-weighted score, so a
+ * query is answered by intersecting the posting lists of its terms (starting from the
+ * shortest) and keeping only the best {@code offset + limit} hits in a bounded heap. The
+ * index is maintained incrementally by ProductService and filled at startup by
+ * ProductIndexLoader.
+ */
+@Component
+public class ProductSearchIndex {
+    
+    static final int NAME_WEIGHT = 4;
+    static final int SKU_WEIGHT = 4;
+    static final int CATEGORY_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+    
+    // Best hit first: higher score, then lower id for a stable order
+    private static final Comparator<Hit> RANKING =
+        Comparator.comparingInt(Hit::score).reversed().thenComparingLong(Hit::productId);
+    
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        Long productId = product.getId();
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, product.getName(), NAME_WEIGHT);
+        addTerms(weights, product.getSku(), SKU_WEIGHT);
+        addTerms(weights, product.getCategory(), CATEGORY_WEIGHT);
+        addTerms(weights, product.getDescription(), DESCRIPTION_WEIGHT);
+        
+        lock.writeLock().lock();
+        try {
+            removeTerms(productId);
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(productId, entry.getValue());
+            }
+            documentTerms.put(productId, weights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns the products matching every term of the query, best match first.
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchHits(0, List.of());
+        }
+        int wanted = (int) Math.min((long) Math.max(offset, 0) + limit, Integer.MAX_VALUE);
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return new SearchHits(0, List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+            
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : lists.get(0).entrySet()) {
+                int score = candidate.getValue();
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer weight = lists.get(i).get(candidate.getKey());
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight;
+                }
+                total++;
+                Hit hit = new Hit(candidate.getKey(), score);
+                if (best.size() < wanted) {
+                    best.add(hit);
+                } else if (RANKING.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        List<Long> productIds = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = Math.max(offset, 0); i < ranked.size(); i++) {
+            productIds.add(ranked.get(i).productId());
+        }
+        return new SearchHits(total, productIds);
+    }
+    
+    /**
+     * Lower-cases text and splits it on every character that is not a letter or digit.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+    
+    private void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private void removeTerms(Long productId) {
+        Set<String> terms = documentTerms.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(productId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    private record Hit(long productId, int score) {}
+}
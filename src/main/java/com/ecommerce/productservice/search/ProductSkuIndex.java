@@ -0,0 +1,56 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exact SKU to product id map, mirroring the unique SKU column.
+ *
+ * Lookups are a single hash probe with no locking, so warehouse and ERP reconciliation can
+ * resolve large SKU lists without touching the database. Writes are serialized so the forward
+ * and reverse maps stay consistent when a product's SKU changes. SKUs are matched exactly,
+ * as the database constraint compares them.
+ */
+@Component
+public class ProductSkuIndex {
+    
+    private final Map<String, Long> idsBySku = new ConcurrentHashMap<>();
+    private final Map<Long, String> skusById = new ConcurrentHashMap<>();
+    
+    public synchronized void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        removeSku(product.getId());
+        String sku = product.getSku();
+        if (sku != null && !sku.isBlank()) {
+            idsBySku.put(sku, product.getId());
+            skusById.put(product.getId(), sku);
+        }
+    }
+    
+    public synchronized void remove(Long productId) {
+        removeSku(productId);
+    }
+    
+    public int size() {
+        return idsBySku.size();
+    }
+    
+    /**
+     * Returns the id of the product with this SKU, or null when no indexed product has it.
+     */
+    public Long idOf(String sku) {
+        return sku == null ? null : idsBySku.get(sku);
+    }
+    
+    private void removeSku(Long productId) {
+        String previous = skusById.remove(productId);
+        if (previous != null) {
+            idsBySku.remove(previous, productId);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.productservice.search;
+
+import java.util.List;
+
+/**
+ * Ranked product ids for one page of a search, plus the total number of matching products.
+ */
+public class SearchHits {
+    private final int total;
+    private final List<Long> productIds;
+
+    public SearchHits(int total, List<Long> productIds) {
+        this.total = total;
+        this.productIds = productIds;
+    }
+
+    public int getTotal() { return total; }
+
+    public List<Long> getProductIds() { return productIds; }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.productservice.search;
+
+/**
+ * One typeahead completion: the product it points to and the name or SKU that matched.
+ */
+public class Suggestion {
+    
+    public enum Type { NAME, SKU }
+    
+    private final Long productId;
+    private final String text;
+    private final Type type;
+
+    public Suggestion(Long productId, String text, Type type) {
+        this.productId = productId;
+        this.text = text;
+        this.type = type;
+    }
+
+    public Long getProductId() { return productId; }
+
+    public String getText() { return text; }
+
+    public Type getType() { return type; }
+}
@@ -1,60 +1,614 @@
 package com.ecommerce.productservice.service;
 
+import com.ecommerce.productservice.cache.CatalogVersion;
+import com.ecommerce.productservice.cache.ProductCache;
+import com.ecommerce.productservice.cache.ProductCacheStats;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.BulkItemResult;
+import com.ecommerce.productservice.model.BulkUpsertResult;
+import com.ecommerce.productservice.model.CartAvailability;
+import com.ecommerce.productservice.model.CartLine;
+import com.ecommerce.productservice.model.CategoryListing;
+import com.ecommerce.productservice.model.CategorySummary;
 import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductBatch;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import com.ecommerce.productservice.model.SkuResolution;
+import com.ecommerce.productservice.model.StockReservation;
 import com.ecommerce.productservice.repository.ProductRepository;
+import com.ecommerce.productservice.repository.SkuMapping;
+import com.ecommerce.productservice.repository.StockLevel;
+import com.ecommerce.productservice.search.ProductAutocompleteIndex;
+import com.ecommerce.productservice.search.ProductCategoryIndex;
+import com.ecommerce.productservice.search.ProductSearchIndex;
+import com.ecommerce.productservice.search.ProductSkuIndex;
+import com.ecommerce.productservice.search.SearchHits;
+import com.ecommerce.productservice.search.Suggestion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ProductService {
     
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int MAX_BULK_SIZE = 5000;
+    public static final int MAX_SUGGESTIONS = 50;
+    public static final int MAX_SKU_RESOLVE_SIZE = 100_000;
+    static final int UNCONDITIONAL_STOCK_ATTEMPTS = 5;
+    
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private ProductCache productCache;
+    
+    @Autowired
+    private CatalogVersion catalogVersion;
+    
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    
+    @Autowired
+    private ProductAutocompleteIndex productAutocompleteIndex;
+    
+    @Autowired
+    private ProductCategoryIndex productCategoryIndex;
+    
+    @Autowired
+    private ProductSkuIndex productSkuIndex;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${product.bulk.batch-size:50}")
+    private int bulkBatchSize = 50;
+    
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        ensureSkuAvailable(product.getSku(), null);
+        Product savedProduct = saveWithSku(product);
+        productCache.put(savedProduct);
+        indexProduct(savedProduct);
+        return savedProduct;
     }
     
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
     
+    public ProductPage getProductsPage(Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists without a count query
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Product> products = after == null
+            ? productRepository.findAllByOrderByIdAsc(pageable)
+            : productRepository.findByIdGreaterThanOrderByIdAsc(after, pageable);
+        
+        if (products.size() <= pageSize) {
+            return new ProductPage(ProductMapper.toResponses(products), null);
+        }
+        List<Product> page = products.subList(0, pageSize);
+        return new ProductPage(ProductMapper.toResponses(page), page.get(pageSize - 1).getId());
+    }
+    
     public Product getProductById(Long id) {
-        return productRepository.findById(id)
+        return productCache.get(id, this::findProduct);
+    }
+    
+    public ProductBatch getProductsByIds(Collection<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " product IDs can be requested at once");
+        }
+        
+        // Serve what we can from the cache and resolve the rest with one IN query
+        Map<Long, Product> found = new HashMap<>(productCache.getAllPresent(requestedIds));
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            if (!found.containsKey(id)) {
+                uncachedIds.add(id);
+            }
+        }
+        if (!uncachedIds.isEmpty()) {
+            long stamp = productCache.writeStamp();
+            List<Product> loaded = productRepository.findAllById(uncachedIds);
+            // Only cached if no update touched the cache while the rows were read
+            productCache.putAllIfUnchanged(loaded, stamp);
+            for (Product product : loaded) {
+                found.put(product.getId(), product);
+            }
+        }
+        
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Product product = found.get(id);
+            if (product != null) {
+                products.add(ProductMapper.toResponse(product));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ProductBatch(products, missingIds);
+    }
+    
+    public Product getProductBySku(String sku) {
+        Long id = productSkuIndex.idOf(sku);
+        if (id != null) {
+            return getProductById(id);
+        }
+        long stamp = productCache.writeStamp();
+        Product product = productRepository.findBySku(sku)
             .orElseThrow(() -> new RuntimeException("Product not found"));
+        productCache.putAllIfUnchanged(List.of(product), stamp);
+        return product;
+    }
+    
+    public SkuResolution resolveSkus(Collection<String> skus) {
+        Set<String> requestedSkus = new LinkedHashSet<>(skus);
+        requestedSkus.remove(null);
+        if (requestedSkus.size() > MAX_SKU_RESOLVE_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_SKU_RESOLVE_SIZE + " SKUs can be resolved at once");
+        }
+        
+        // Answer from the SKU index and check only the misses against the database
+        Map<String, Long> found = new HashMap<>();
+        List<String> unindexedSkus = new ArrayList<>();
+        for (String sku : requestedSkus) {
+            Long id = productSkuIndex.idOf(sku);
+            if (id != null) {
+                found.put(sku, id);
+            } else {
+                unindexedSkus.add(sku);
+            }
+        }
+        for (int from = 0; from < unindexedSkus.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = unindexedSkus.subList(from, Math.min(from + MAX_BATCH_SIZE, unindexedSkus.size()));
+            for (SkuMapping mapping : productRepository.findSkuMappingsBySkuIn(chunk)) {
+                found.put(mapping.getSku(), mapping.getId());
+            }
+        }
+        
+        Map<String, Long> productIds = new LinkedHashMap<>();
+        List<String> missingSkus = new ArrayList<>();
+        for (String sku : requestedSkus) {
+            Long id = found.get(sku);
+            if (id != null) {
+                productIds.put(sku, id);
+            } else {
+                missingSkus.add(sku);
+            }
+        }
+        return new SkuResolution(productIds, missingSkus);
+    }
+    
+    public ProductSearchResult searchProducts(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        long offset = (long) pageNumber * pageSize;
+        SearchHits hits = productSearchIndex.search(query, (int) Math.min(offset, Integer.MAX_VALUE), pageSize);
+        // Resolve the ranked ids through the cache; ids deleted since indexing simply drop out
+        ProductBatch batch = getProductsByIds(hits.getProductIds());
+        return new ProductSearchResult(query, hits.getTotal(), pageNumber, pageSize, batch.getProducts());
+    }
+    
+    public List<Suggestion> autocomplete(String prefix, int limit) {
+        return productAutocompleteIndex.complete(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+    
+    public ProductCacheStats getCacheStats() {
+        return productCache.stats();
     }
     
     public List<Product> getProductsByCategory(String category) {
         return productRepository.findByCategory(category);
     }
     
+    /**
+     * One keyset page of a category ordered by id: up to {@code limit} products with an id
+     * greater than {@code after}, or from the start when {@code after} is null.
+     */
+    public List<Product> getProductsByCategoryAfter(String category, Long after, int limit) {
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return after == null
+            ? productRepository.findByCategoryOrderByIdAsc(category, pageable)
+            : productRepository.findByCategoryAndIdGreaterThanOrderByIdAsc(category, after, pageable);
+    }
+    
+    /**
+     * Sparse listing: only the given Product attributes are selected and returned per product.
+     */
+    public List<Map<String, Object>> getAllProductFields(List<String> fields) {
+        return productRepository.findAllProjected(fields);
+    }
+    
+    public List<Map<String, Object>> getProductFieldsByCategory(String category, List<String> fields) {
+        return productRepository.findByCategoryProjected(category, fields);
+    }
+    
+    public CategoryListing getProductsByCategoryPage(String category, int page, int size, String sort) {
+        ProductCategoryIndex.SortOrder sortOrder = parseSortOrder(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        long offset = (long) pageNumber * pageSize;
+        SearchHits hits = productCategoryIndex.page(category, sortOrder,
+            (int) Math.min(offset, Integer.MAX_VALUE), pageSize);
+        ProductBatch batch = getProductsByIds(hits.getProductIds());
+        return new CategoryListing(category, hits.getTotal(), pageNumber, pageSize,
+            sortOrder.name().toLowerCase(), batch.getProducts());
+    }
+    
+    public CategorySummary getCategorySummary(String category) {
+        return productCategoryIndex.summary(category);
+    }
+    
+    public List<CategorySummary> getCategorySummaries() {
+        return productCategoryIndex.summaries();
+    }
+    
     public Product updateProduct(Long id, Product productDetails) {
-        Product product = getProductById(id);
-        product.setName(productDetails.getName());
-        product.setDescription(productDetails.getDescription());
-        product.setPrice(productDetails.getPrice());
-        product.setStockQuantity(productDetails.getStockQuantity());
-        product.setCategory(productDetails.getCategory());
-        product.setImageUrl(productDetails.getImageUrl());
-        product.setSku(productDetails.getSku());
-        return productRepository.save(product);
+        return updateProduct(id, productDetails, null);
+    }
+    
+    /**
+     * Updates a product only if it is still at {@code expectedVersion}; a null version updates
+     * unconditionally. Either way a concurrent update between reading and writing the product
+     * fails with an ObjectOptimisticLockingFailureException instead of being overwritten.
+     */
+    public Product updateProduct(Long id, Product productDetails, Long expectedVersion) {
+        // Mutations load a fresh copy so the shared cached instance is never modified in place
+        Product product = findProduct(id);
+        checkVersion(product, expectedVersion);
+        ensureSkuAvailable(productDetails.getSku(), id);
+        copyDetails(productDetails, product);
+        Product savedProduct = saveWithSku(product);
+        productCache.put(savedProduct);
+        indexProduct(savedProduct);
+        return savedProduct;
+    }
+    
+    /**
+     * Creates or updates many products in one transaction. Items whose id matches an existing
+     * product are updated; all others are created with a newly generated id. Items are written
+     * in chunks of {@code product.bulk.batch-size}; each chunk is flushed as JDBC batches and
+     * then detached so the persistence context stays one chunk large.
+     * Items that fail validation are reported as FAILED without affecting the rest of the
+     * request, but a database error (e.g. a constraint violation) rolls back the whole request.
+     * The indexes and the cache only see the written products once the transaction commits.
+     */
+    @Transactional
+    public BulkUpsertResult bulkUpsert(List<Product> products) {
+        if (products.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " products can be upserted at once");
+        }
+        BulkItemResult[] results = new BulkItemResult[products.size()];
+        int chunkSize = Math.max(1, bulkBatchSize);
+        Set<String> claimedSkus = new HashSet<>();
+        List<Product> written = new ArrayList<>();
+        Set<Long> updatedIds = new HashSet<>();
+        for (int from = 0; from < products.size(); from += chunkSize) {
+            upsertChunk(products, from, Math.min(from + chunkSize, products.size()), results, claimedSkus,
+                written, updatedIds);
+            productRepository.flush();
+            entityManager.clear();
+        }
+        
+        Set<String> changedCategories = new HashSet<>();
+        for (Product product : written) {
+            changedCategories.add(productCategoryIndex.categoryOf(product.getId()));
+            changedCategories.add(product.getCategory());
+        }
+        afterCommit(() -> {
+            for (Product product : written) {
+                applyToIndexes(product);
+            }
+            updatedIds.forEach(productCache::invalidate);
+        });
+        // Registered after the index update, so the new versions are only handed out once it ran
+        catalogVersion.markChanged(changedCategories.toArray(String[]::new));
+        return new BulkUpsertResult(List.of(results));
     }
     
     public Product updateStock(Long id, Integer newQuantity) {
-        Product product = getProductById(id);
+        return updateStock(id, newQuantity, null);
+    }
+    
+    /**
+     * Sets the stock level. With {@code expectedVersion} the write fails if the product moved
+     * on. Without one the caller just wants the new level, so a write that loses a race is
+     * retried on a fresh copy and the last write wins.
+     */
+    public Product updateStock(Long id, Integer newQuantity, Long expectedVersion) {
+        int attempts = expectedVersion == null ? UNCONDITIONAL_STOCK_ATTEMPTS : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return writeStock(id, newQuantity, expectedVersion);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= attempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    private Product writeStock(Long id, Integer newQuantity, Long expectedVersion) {
+        Product product = findProduct(id);
+        checkVersion(product, expectedVersion);
         product.setStockQuantity(newQuantity);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        productCache.put(savedProduct);
+        catalogVersion.markChanged(savedProduct.getCategory());
+        return savedProduct;
+    }
+    
+    public StockReservation reserveStock(Long id, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Reservation quantity must be positive");
+        }
+        boolean reserved = productRepository.decrementStock(id, quantity) == 1;
+        if (reserved) {
+            productCache.invalidate(id);
+            catalogVersion.markChanged(productCategoryIndex.categoryOf(id));
+        } else if (!productRepository.existsById(id)) {
+            throw new RuntimeException("Product not found");
+        }
+        return new StockReservation(id, quantity, reserved);
     }
     
     public void deleteProduct(Long id) {
-        Product product = getProductById(id);
+        deleteProduct(id, null);
+    }
+    
+    public void deleteProduct(Long id, Long expectedVersion) {
+        Product product = findProduct(id);
+        checkVersion(product, expectedVersion);
         productRepository.delete(product);
+        productCache.invalidate(id);
+        unindexProduct(id);
     }
     
     public boolean isProductAvailable(Long id, Integer quantity) {
         Product product = getProductById(id);
         return product.getStockQuantity() >= quantity;
     }
+    
+    public CartAvailability checkAvailability(List<CartLine> lines) {
+        if (lines.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " cart lines can be checked at once");
+        }
+        Map<Long, Integer> requestedTotals = new HashMap<>();
+        for (CartLine line : lines) {
+            if (line == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Every cart line needs a productId and a positive quantity");
+            }
+            requestedTotals.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        
+        // One projection query reading only id and stock_quantity for the whole cart
+        Map<Long, Integer> stock = new HashMap<>();
+        if (!requestedTotals.isEmpty()) {
+            for (StockLevel level : productRepository.findStockLevelsByIdIn(requestedTotals.keySet())) {
+                stock.put(level.getId(), level.getStockQuantity());
+            }
+        }
+        
+        List<CartAvailability.Line> verdicts = new ArrayList<>(lines.size());
+        for (CartLine line : lines) {
+            Integer inStock = stock.get(line.getProductId());
+            boolean available = inStock != null && inStock >= requestedTotals.get(line.getProductId());
+            verdicts.add(new CartAvailability.Line(line.getProductId(), line.getQuantity(), inStock, available));
+        }
+        return new CartAvailability(verdicts);
+    }
+    
+    private Product findProduct(Long id) {
+        return productRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Product not found"));
+    }
+    
+    private void checkVersion(Product product, Long expectedVersion) {
+        if (expectedVersion != null && product.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Product.class, product.getId());
+        }
+    }
+    
+    private void indexProduct(Product product) {
+        String previousCategory = productCategoryIndex.categoryOf(product.getId());
+        applyToIndexes(product);
+        catalogVersion.markChanged(previousCategory, product.getCategory());
+    }
+    
+    private void applyToIndexes(Product product) {
+        productSearchIndex.index(product);
+        productAutocompleteIndex.index(product);
+        productCategoryIndex.index(product);
+        productSkuIndex.index(product);
+    }
+    
+    /**
+     * Runs the action once the current transaction commits, and not at all if it rolls back.
+     * Without a transaction it runs right away.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private void unindexProduct(Long id) {
+        String previousCategory = productCategoryIndex.categoryOf(id);
+        productSearchIndex.remove(id);
+        productAutocompleteIndex.remove(id);
+        productCategoryIndex.remove(id);
+        productSkuIndex.remove(id);
+        catalogVersion.markChanged(previousCategory);
+    }
+    
+    /**
+     * Saves a product whose SKU passed the index check. Two requests can both pass it for the
+     * same SKU; the loser then hits the unique constraint and gets the same 400 as a SKU the
+     * index already knew.
+     */
+    private Product saveWithSku(Product product) {
+        try {
+            return productRepository.save(product);
+        } catch (DataIntegrityViolationException e) {
+            if (isSkuConstraintViolation(e)) {
+                throw new IllegalArgumentException("SKU already in use: " + product.getSku(), e);
+            }
+            throw e;
+        }
+    }
+    
+    private static boolean isSkuConstraintViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Product.SKU_CONSTRAINT);
+    }
+    
+    private void ensureSkuAvailable(String sku, Long productId) {
+        String conflict = skuConflict(sku, productId);
+        if (conflict != null) {
+            throw new IllegalArgumentException(conflict);
+        }
+    }
+    
+    private String bulkSkuConflict(Product item, Long productId, Set<String> claimedSkus) {
+        String sku = item.getSku();
+        if (sku != null && !sku.isBlank() && !claimedSkus.add(sku)) {
+            return "SKU appears more than once in the request: " + sku;
+        }
+        return skuConflict(sku, productId);
+    }
+    
+    private String skuConflict(String sku, Long productId) {
+        Long owner = productSkuIndex.idOf(sku);
+        if (owner != null && !owner.equals(productId)) {
+            return "SKU already in use: " + sku;
+        }
+        return null;
+    }
+    
+    private ProductCategoryIndex.SortOrder parseSortOrder(String sort) {
+        try {
+            return ProductCategoryIndex.SortOrder.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+    }
+    
+    private void upsertChunk(List<Product> products, int from, int to, BulkItemResult[] results,
+                             Set<String> claimedSkus, List<Product> written, Set<Long> updatedIds) {
+        // One IN query per chunk finds the rows to update
+        List<Long> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Product item = products.get(i);
+            if (item != null && item.getId() != null) {
+                ids.add(item.getId());
+            }
+        }
+        Map<Long, Product> existing = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Product product : productRepository.findAllById(ids)) {
+                existing.put(product.getId(), product);
+            }
+        }
+        
+        List<Product> toSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+        List<BulkItemResult.Status> savedStatuses = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Product item = products.get(i);
+            String error = validate(item);
+            if (error == null) {
+                error = bulkSkuConflict(item, existing.containsKey(item.getId()) ? item.getId() : null, claimedSkus);
+            }
+            if (error != null) {
+                Long id = item != null ? item.getId() : null;
+                results[i] = new BulkItemResult(i, id, BulkItemResult.Status.FAILED, error);
+                continue;
+            }
+            Product target = existing.get(item.getId());
+            if (target != null) {
+                copyDetails(item, target);
+                toSave.add(target);
+                savedStatuses.add(BulkItemResult.Status.UPDATED);
+            } else {
+                item.setId(null);
+                toSave.add(item);
+                savedStatuses.add(BulkItemResult.Status.CREATED);
+            }
+            savedIndexes.add(i);
+        }
+        
+        List<Product> saved = productRepository.saveAll(toSave);
+        for (int k = 0; k < saved.size(); k++) {
+            int index = savedIndexes.get(k);
+            Product product = saved.get(k);
+            BulkItemResult.Status status = savedStatuses.get(k);
+            results[index] = new BulkItemResult(index, product.getId(), status, null);
+            written.add(product);
+            if (status == BulkItemResult.Status.UPDATED) {
+                updatedIds.add(product.getId());
+            }
+        }
+    }
+    
+    private String validate(Product product) {
+        if (product == null) {
+            return "product must not be null";
+        }
+        if (product.getName() == null || product.getName().isBlank()) {
+            return "name must not be blank";
+        }
+        if (product.getPrice() == null || product.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            return "price must be greater than 0";
+        }
+        if (product.getStockQuantity() == null) {
+            return "stockQuantity must not be null";
+        }
+        return null;
+    }
+    
+    private void copyDetails(Product source, Product target) {
+        target.setName(source.getName());
+        target.setDescription(source.getDescription());
+        target.setPrice(source.getPrice());
+        target.setStockQuantity(source.getStockQuantity());
+        target.setCategory(source.getCategory());
+        target.setImageUrl(source.getImageUrl());
+        target.setSku(source.getSku());
+    }
 }
\ No newline at end of file
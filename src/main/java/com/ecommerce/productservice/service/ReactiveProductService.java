@@ -0,0 +1,96 @@
+package com.ecommerce.productservice.service;
+
+import com.ecommerce.productservice.cache.ProductCache;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Non-blocking read facade over ProductService. Like the MVC controllers it emits
+ * ProductResponse views, never the JPA entity.
+ *
+ * Products already in the cache are emitted on the subscribing thread. Anything that may
+ * reach JPA runs on a dedicated bounded scheduler with one thread per pooled connection, so
+ * blocking JDBC work never occupies request or event-loop threads and never asks the pool
+ * for more connections than it has. Category listings are read as keyset pages, so a stream
+ * holds at most one page in memory and the next page is only queried once downstream has
+ * asked for more.
+ */
+@Service
+public class ReactiveProductService {
+    
+    static final int STREAM_PAGE_SIZE = 100;
+    
+    private final ProductService productService;
+    private final ProductCache productCache;
+    private final Scheduler jdbcScheduler;
+    
+    @Autowired
+    public ReactiveProductService(ProductService productService, ProductCache productCache,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.productService = productService;
+        this.productCache = productCache;
+        this.jdbcScheduler = Schedulers.newBoundedElastic(connectionPoolSize,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "product-jdbc");
+    }
+    
+    public Mono<ProductResponse> getProductById(Long id) {
+        return Mono.defer(() -> {
+            Product cached = productCache.getIfPresent(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return Mono.fromCallable(() -> productService.getProductById(id)).subscribeOn(jdbcScheduler);
+        }).map(ProductMapper::toResponse).contextCapture();
+    }
+    
+    public Flux<ProductResponse> getProductsByCategory(String category) {
+        // generate only reads a page when downstream requests one, and a prefetch of one page
+        // makes that happen once the previous page has been emitted
+        return Flux.<List<ProductResponse>, CategoryCursor>generate(() -> new CategoryCursor(null, false), (cursor, sink) -> {
+                if (cursor.exhausted()) {
+                    sink.complete();
+                    return cursor;
+                }
+                List<Product> page = productService.getProductsByCategoryAfter(category, cursor.after(), STREAM_PAGE_SIZE);
+                if (page.isEmpty()) {
+                    sink.complete();
+                    return cursor;
+                }
+                sink.next(ProductMapper.toResponses(page));
+                return new CategoryCursor(page.get(page.size() - 1).getId(), page.size() < STREAM_PAGE_SIZE);
+            })
+            .subscribeOn(jdbcScheduler)
+            .flatMapIterable(page -> page, 1)
+            .contextCapture();
+    }
+    
+    public Flux<ProductResponse> searchProducts(String query, int limit) {
+        return Mono.fromCallable(() -> productService.searchProducts(query, 0, limit))
+            .subscribeOn(jdbcScheduler)
+            .flatMapIterable(ProductSearchResult::getProducts)
+            .contextCapture();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        jdbcScheduler.dispose();
+    }
+    
+    /**
+     * Position of a category stream: the last id emitted and whether the last page was short.
+     */
+    private record CategoryCursor(Long after, boolean exhausted) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records a {@code repository_<method>} child span for every ProductRepository call made while a
+ * sampled trace is active, so a request's latency can be split into time spent in the
+ * database and time spent elsewhere. Calls outside a trace (startup loaders, background
+ * work) only pay for the context check.
+ */
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+    
+    static final String STAGE = "repository";
+    
+    @Autowired
+    private TelemetryClient telemetryClient;
+    
+    @Around("this(com.ecommerce.productservice.repository.ProductRepository)")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TelemetryClient.TraceContext.getTraceId() == null || !TelemetryClient.TraceContext.isSampled()) {
+            return joinPoint.proceed();
+        }
+        
+        long start = System.nanoTime();
+        String errorMessage = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            errorMessage = t.getMessage() != null ? t.getMessage() : t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            telemetryClient.recordStage(STAGE, joinPoint.getSignature().getName(), System.nanoTime() - start, errorMessage);
+        }
+    }
+}
@@ -1,18 +1,66 @@
 package com.ecommerce.productservice.telemetry;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+/**
+ * Records spans and log events for the telemetry service.
+ *
+ * Events are never sent from the calling thread: they are written into a preallocated
+ * lock-free ring buffer and a single background flusher posts them to the batch endpoint
+ * whenever a full batch is waiting or the flush interval elapses. Recording a service call,
+ * stage or log event copies a few references and primitives into a reused slot, so it neither
+ * allocates nor takes a lock; the flusher builds the JSON payload. Starting a trace is not
+ * allocation-free: it creates the trace and span id strings and one immutable TraceContext
+ * snapshot. When the ring is full new events are dropped and counted rather than blocking the
+ * request.
+ *
+ * Which traces are recorded is decided once per trace by the TraceSampler; the decision is
+ * carried in TraceContext and every later call for an unsampled trace returns immediately.
+ */
 @Component
 public class TelemetryClient {
     
+    static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 1_000;
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    
     private final WebClient webClient;
+    private final TelemetryRingBuffer ring;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher;
+    private final Runnable flushTask = this::flushQuietly;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final TraceSampler sampler;
+    
+    private final LongAdder enqueuedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final AtomicLong sentEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
     
     @Value("${telemetry.service.url:http://localhost:8086}")
     private String telemetryServiceUrl;
@@ -21,154 +69,511 @@ public class TelemetryClient {
     private String serviceName;
     
     public TelemetryClient() {
+        this(DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MS);
+    }
+    
+    public TelemetryClient(int queueCapacity, int batchSize, long flushIntervalMs) {
+        this(queueCapacity, batchSize, flushIntervalMs, TraceSampler.alwaysSample());
+    }
+    
+    @Autowired
+    public TelemetryClient(@Value("${telemetry.queue.capacity:10000}") int queueCapacity,
+                           @Value("${telemetry.batch.size:100}") int batchSize,
+                           @Value("${telemetry.batch.flush-interval-ms:1000}") long flushIntervalMs,
+                           TraceSampler sampler) {
+        this.sampler = sampler;
         this.webClient = WebClient.builder().build();
+        // Capacity is rounded up to the next power of two so slots can be indexed with a mask
+        this.ring = new TelemetryRingBuffer(queueCapacity);
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "telemetry-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(flushTask, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
     }
     
     public String startTrace(String operation, String httpMethod, String httpUrl, String userId) {
-        String traceId = generateTraceId();
+        return continueTrace(null, null, null, operation, httpMethod, httpUrl, userId);
+    }
+    
+    /**
+     * Starts a span for this service inside a trace begun upstream. A null trace id starts a
+     * new trace; a null sampling flag lets the local sampler decide.
+     */
+    public String continueTrace(String incomingTraceId, String parentSpanId, Boolean incomingSampled,
+                                String operation, String httpMethod, String httpUrl, String userId) {
+        String traceId = incomingTraceId != null ? incomingTraceId : generateTraceId();
         String spanId = generateSpanId();
+        boolean sampled = incomingSampled != null ? incomingSampled : sampler.sampleTrace();
         
-        Map<String, Object> eventData = createEventData();
-        eventData.put("traceId", traceId);
-        eventData.put("spanId", spanId);
-        eventData.put("serviceName", serviceName);
-        eventData.put("operation", operation);
-        eventData.put("eventType", "SPAN");
-        eventData.put("timestamp", LocalDateTime.now());
-        eventData.put("status", "SUCCESS");
-        eventData.put("httpMethod", httpMethod);
-        eventData.put("httpUrl", httpUrl);
-        eventData.put("userId", userId != null ? userId : "");
-        sendTelemetryEvent(eventData);
+        long position = sampled ? ring.tryClaim() : -1;
+        if (position >= 0) {
+            TelemetryEvent event = ring.slot(position);
+            event.kind = TelemetryEvent.Kind.TRACE_START;
+            event.traceId = traceId;
+            event.spanId = spanId;
+            event.parentSpanId = parentSpanId;
+            event.operation = operation;
+            event.timestampMillis = System.currentTimeMillis();
+            event.httpMethod = httpMethod;
+            event.httpUrl = httpUrl;
+            event.userId = userId;
+            publish(position);
+        } else if (sampled) {
+            droppedEvents.increment();
+        }
         
         // Store in thread local for span context
-        TraceContext.setTraceId(traceId);
-        TraceContext.setSpanId(spanId);
-        TraceContext.setStartTime(System.currentTimeMillis());
+        TraceContext.restore(new TraceContext.Snapshot(traceId, spanId, System.currentTimeMillis(), sampled));
         
         return traceId;
     }
     
     public void finishTrace(String operation, int httpStatusCode, String errorMessage) {
-        String traceId = TraceContext.getTraceId();
-        String spanId = TraceContext.getSpanId();
-        Long startTime = TraceContext.getStartTime();
-        
-        if (traceId == null || spanId == null) return;
+        TraceContext.Snapshot trace = TraceContext.capture();
         
-        long duration = startTime != null ? System.currentTimeMillis() - startTime : 0;
+        if (trace == null || trace.traceId() == null || trace.spanId() == null) return;
+        String traceId = trace.traceId();
+        String spanId = trace.spanId();
         
-        Map<String, Object> eventData = createEventData();
-        eventData.put("traceId", traceId);
-        eventData.put("spanId", spanId);
-        eventData.put("serviceName", serviceName);
-        eventData.put("operation", operation + "_complete");
-        eventData.put("eventType", "SPAN");
-        eventData.put("timestamp", LocalDateTime.now());
-        eventData.put("durationMs", duration);
-        eventData.put("status", httpStatusCode >= 400 ? "ERROR" : "SUCCESS");
-        eventData.put("httpStatusCode", httpStatusCode);
-        eventData.put("errorMessage", errorMessage != null ? errorMessage : "");
-        sendTelemetryEvent(eventData);
+        long now = System.currentTimeMillis();
+        long duration = trace.hasStartTime() ? now - trace.startTimeMillis() : 0;
+        // Unsampled traces only surface their finishing span, and only when it is an error or slow
+        boolean record = trace.sampled() || sampler.keepUnsampled(httpStatusCode, errorMessage, duration);
+        long position = record ? ring.tryClaim() : -1;
+        if (position >= 0) {
+            TelemetryEvent event = ring.slot(position);
+            event.kind = TelemetryEvent.Kind.TRACE_FINISH;
+            event.traceId = traceId;
+            event.spanId = spanId;
+            event.operation = operation;
+            event.timestampMillis = now;
+            event.durationMs = duration;
+            event.httpStatusCode = httpStatusCode;
+            event.message = errorMessage;
+            publish(position);
+        } else if (record) {
+            droppedEvents.increment();
+        }
         
         // Clear trace context
         TraceContext.clear();
     }
     
     public void recordServiceCall(String targetService, String operation, String httpMethod, String url, long duration, int statusCode) {
-        String traceId = TraceContext.getTraceId();
-        String parentSpanId = TraceContext.getSpanId();
+        TraceContext.Snapshot trace = TraceContext.capture();
         
-        if (traceId == null) return;
+        if (trace == null || trace.traceId() == null || !trace.sampled()) return;
+        String traceId = trace.traceId();
+        String parentSpanId = trace.spanId();
         
-        String spanId = generateSpanId();
+        long position = ring.tryClaim();
+        if (position < 0) {
+            droppedEvents.increment();
+            return;
+        }
+        TelemetryEvent event = ring.slot(position);
+        event.kind = TelemetryEvent.Kind.SERVICE_CALL;
+        event.traceId = traceId;
+        // The child span id is formatted by the flusher; only its random bits are captured here
+        event.childSpanBits = ThreadLocalRandom.current().nextLong();
+        event.parentSpanId = parentSpanId;
+        event.target = targetService;
+        event.operation = operation;
+        event.timestampMillis = System.currentTimeMillis();
+        event.durationMs = duration;
+        event.httpMethod = httpMethod;
+        event.httpUrl = url;
+        event.httpStatusCode = statusCode;
+        publish(position);
+    }
+    
+    /**
+     * Records a child span for an internal stage of the current request, e.g. a repository
+     * call. Durations are captured in nanoseconds because most stages finish well under 1 ms.
+     */
+    public void recordStage(String stage, String operation, long durationNanos, String errorMessage) {
+        TraceContext.Snapshot trace = TraceContext.capture();
         
-        Map<String, Object> eventData = createEventData();
-        eventData.put("traceId", traceId);
-        eventData.put("spanId", spanId);
-        eventData.put("parentSpanId", parentSpanId);
-        eventData.put("serviceName", serviceName);
-        eventData.put("operation", targetService + "_" + operation);
-        eventData.put("eventType", "SPAN");
-        eventData.put("timestamp", LocalDateTime.now());
-        eventData.put("durationMs", duration);
-        eventData.put("status", statusCode >= 400 ? "ERROR" : "SUCCESS");
-        eventData.put("httpMethod", httpMethod);
-        eventData.put("httpUrl", url);
-        eventData.put("httpStatusCode", statusCode);
-        eventData.put("metadata", "Outbound call to " + targetService);
-        sendTelemetryEvent(eventData);
+        if (trace == null || trace.traceId() == null || !trace.sampled()) return;
+        String traceId = trace.traceId();
+        String parentSpanId = trace.spanId();
+        
+        long position = ring.tryClaim();
+        if (position < 0) {
+            droppedEvents.increment();
+            return;
+        }
+        TelemetryEvent event = ring.slot(position);
+        event.kind = TelemetryEvent.Kind.STAGE;
+        event.traceId = traceId;
+        event.childSpanBits = ThreadLocalRandom.current().nextLong();
+        event.parentSpanId = parentSpanId;
+        event.target = stage;
+        event.operation = operation;
+        event.timestampMillis = System.currentTimeMillis();
+        event.durationNanos = durationNanos;
+        event.message = errorMessage;
+        publish(position);
     }
     
     public void logEvent(String message, String level) {
-        String traceId = TraceContext.getTraceId();
-        String spanId = TraceContext.getSpanId();
+        TraceContext.Snapshot trace = TraceContext.capture();
         
-        if (traceId == null) return;
+        if (trace == null || trace.traceId() == null || !trace.sampled()) return;
+        String traceId = trace.traceId();
+        String spanId = trace.spanId();
         
-        Map<String, Object> eventData = createEventData();
-        eventData.put("traceId", traceId);
-        eventData.put("spanId", spanId);
-        eventData.put("serviceName", serviceName);
-        eventData.put("operation", "log_" + level.toLowerCase());
-        eventData.put("eventType", "LOG");
-        eventData.put("timestamp", LocalDateTime.now());
-        eventData.put("status", "SUCCESS");
-        eventData.put("metadata", message);
-        sendTelemetryEvent(eventData);
+        long position = ring.tryClaim();
+        if (position < 0) {
+            droppedEvents.increment();
+            return;
+        }
+        TelemetryEvent event = ring.slot(position);
+        event.kind = TelemetryEvent.Kind.LOG;
+        event.traceId = traceId;
+        event.spanId = spanId;
+        event.operation = level;
+        event.timestampMillis = System.currentTimeMillis();
+        event.message = message;
+        publish(position);
+    }
+    
+    /**
+     * Sends every queued event now. Runs on the flusher thread; callers only need it to
+     * drain the queue deterministically, e.g. on shutdown or in tests.
+     */
+    public synchronized void flush() {
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+        while (ring.drain(event -> batch.add(toEventData(event)), batchSize) > 0) {
+            sendBatch(batch);
+            batch.clear();
+        }
+    }
+    
+    public long getEnqueuedEventCount() { return enqueuedEvents.sum(); }
+    
+    public long getDroppedEventCount() { return droppedEvents.sum(); }
+    
+    public long getSentEventCount() { return sentEvents.get(); }
+    
+    public long getFailedEventCount() { return failedEvents.get(); }
+    
+    public int getQueueDepth() { return ring.size(); }
+    
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+    
+    /**
+     * Drops every queued event without sending it. Lets benchmarks keep the ring from
+     * filling up without paying for payload building or HTTP on every iteration.
+     */
+    synchronized int discardPending() {
+        return ring.drain(event -> { }, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Removes and returns every queued event in the form it would be sent. Lets tests inspect
+     * payloads without a telemetry service.
+     */
+    synchronized List<Map<String, Object>> drainPendingEvents() {
+        List<Map<String, Object>> events = new ArrayList<>();
+        ring.drain(event -> events.add(toEventData(event)), Integer.MAX_VALUE);
+        return events;
+    }
+    
+    private void publish(long position) {
+        ring.publish(position);
+        enqueuedEvents.increment();
+        // Wake the flusher early once a full batch is waiting, at most once per flush
+        if (ring.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(flushTask);
+            } catch (Exception e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+    
+    private void flushQuietly() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            // Silently fail - telemetry should not affect application functionality
+        }
     }
     
-    private void sendTelemetryEvent(Map<String, Object> eventData) {
+    private void sendBatch(List<Map<String, Object>> batch) {
+        // The single flusher thread waits for each batch, which bounds in-flight requests to one
+        // and lets a slow telemetry service back up into the ring instead of into memory
         try {
             webClient.post()
-                .uri(telemetryServiceUrl + "/api/telemetry/events")
-                .bodyValue(eventData)
+                .uri(telemetryServiceUrl + "/api/telemetry/events/batch")
+                .bodyValue(batch)
                 .retrieve()
                 .bodyToMono(Void.class)
-                .subscribe(
-                    result -> {},
-                    error -> System.err.println("Failed to send telemetry: " + error.getMessage())
-                );
+                .block(SEND_TIMEOUT);
+            sentEvents.addAndGet(batch.size());
         } catch (Exception e) {
-            // Silently fail - telemetry should not affect application functionality
+            failedEvents.addAndGet(batch.size());
+            System.err.println("Failed to send telemetry batch: " + e.getMessage());
+        }
+    }
+    
+    private Map<String, Object> toEventData(TelemetryEvent event) {
+        Map<String, Object> eventData = createEventData();
+        eventData.put("traceId", event.traceId);
+        eventData.put("serviceName", serviceName);
+        eventData.put("timestamp", LocalDateTime.ofInstant(Instant.ofEpochMilli(event.timestampMillis), ZoneId.systemDefault()));
+        switch (event.kind) {
+            case TRACE_START -> {
+                eventData.put("spanId", event.spanId);
+                if (event.parentSpanId != null) {
+                    eventData.put("parentSpanId", event.parentSpanId);
+                }
+                eventData.put("operation", event.operation);
+                eventData.put("eventType", "SPAN");
+                eventData.put("status", "SUCCESS");
+                eventData.put("httpMethod", event.httpMethod);
+                eventData.put("httpUrl", event.httpUrl);
+                eventData.put("userId", event.userId != null ? event.userId : "");
+            }
+            case TRACE_FINISH -> {
+                eventData.put("spanId", event.spanId);
+                eventData.put("operation", event.operation + "_complete");
+                eventData.put("eventType", "SPAN");
+                eventData.put("durationMs", event.durationMs);
+                eventData.put("status", event.httpStatusCode >= 400 ? "ERROR" : "SUCCESS");
+                eventData.put("httpStatusCode", event.httpStatusCode);
+                eventData.put("errorMessage", event.message != null ? event.message : "");
+            }
+            case SERVICE_CALL -> {
+                eventData.put("spanId", hexId("span_", event.childSpanBits));
+                eventData.put("parentSpanId", event.parentSpanId);
+                eventData.put("operation", event.target + "_" + event.operation);
+                eventData.put("eventType", "SPAN");
+                eventData.put("durationMs", event.durationMs);
+                eventData.put("status", event.httpStatusCode >= 400 ? "ERROR" : "SUCCESS");
+                eventData.put("httpMethod", event.httpMethod);
+                eventData.put("httpUrl", event.httpUrl);
+                eventData.put("httpStatusCode", event.httpStatusCode);
+                eventData.put("metadata", "Outbound call to " + event.target);
+            }
+            case STAGE -> {
+                eventData.put("spanId", hexId("span_", event.childSpanBits));
+                eventData.put("parentSpanId", event.parentSpanId);
+                eventData.put("operation", event.target + "_" + event.operation);
+                eventData.put("eventType", "SPAN");
+                eventData.put("durationMs", TimeUnit.NANOSECONDS.toMillis(event.durationNanos));
+                eventData.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(event.durationNanos));
+                eventData.put("status", event.message != null ? "ERROR" : "SUCCESS");
+                if (event.message != null) {
+                    eventData.put("errorMessage", event.message);
+                }
+            }
+            case LOG -> {
+                eventData.put("spanId", event.spanId);
+                eventData.put("operation", "log_" + event.operation.toLowerCase());
+                eventData.put("eventType", "LOG");
+                eventData.put("status", "SUCCESS");
+                eventData.put("metadata", event.message);
+            }
         }
+        return eventData;
     }
     
     private Map<String, Object> createEventData() {
         return new java.util.HashMap<>();
     }
     
-    private String generateTraceId() {
-        return "trace_" + UUID.randomUUID().toString().replace("-", "");
+    private static String generateTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hexId("trace_", random.nextLong(), random.nextLong());
+    }
+    
+    private static String generateSpanId() {
+        return hexId("span_", ThreadLocalRandom.current().nextLong());
     }
     
-    private String generateSpanId() {
-        return "span_" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    /**
+     * Formats the prefix and the bits as fixed-width lower-case hex straight into one buffer,
+     * instead of going through UUID, intermediate hex strings and concatenation.
+     */
+    static String hexId(String prefix, long bits) {
+        byte[] buffer = prefixBuffer(prefix, 1);
+        writeHex(buffer, prefix.length(), bits);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
     }
     
+    static String hexId(String prefix, long high, long low) {
+        byte[] buffer = prefixBuffer(prefix, 2);
+        writeHex(buffer, prefix.length(), high);
+        writeHex(buffer, prefix.length() + 16, low);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+    
+    private static byte[] prefixBuffer(String prefix, int longs) {
+        byte[] buffer = new byte[prefix.length() + longs * 16];
+        for (int i = 0; i < prefix.length(); i++) {
+            buffer[i] = (byte) prefix.charAt(i);
+        }
+        return buffer;
+    }
+    
+    private static void writeHex(byte[] buffer, int offset, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            buffer[offset++] = HEX_DIGITS[(int) (value >>> shift) & 0xF];
+        }
+    }
+    
+    /**
+     * Trace state of the current thread.
+     *
+     * The whole state is one immutable Snapshot held in a single ThreadLocal: reading it is one
+     * lookup, updating it replaces the reference, and nothing is inherited by child threads, so
+     * the cost stays flat with large numbers of (virtual) threads. Work handed to another thread
+     * carries the state explicitly - wrap the task or executor, or let Reactor restore it through
+     * TraceContextAccessor - and every hand-off restores the worker's previous state afterwards
+     * so pooled threads never leak a trace. (ScopedValue would fit this model once the toolchain
+     * moves past Java 17; the snapshot/attach API is shaped so it can be swapped in.)
+     */
     public static class TraceContext {
-        private static final ThreadLocal<String> traceId = new ThreadLocal<>();
-        private static final ThreadLocal<String> spanId = new ThreadLocal<>();
-        private static final ThreadLocal<Long> startTime = new ThreadLocal<>();
+        private static final ThreadLocal<Snapshot> current = new ThreadLocal<>();
+        private static final Snapshot EMPTY = new Snapshot(null, null, Snapshot.NO_START_TIME, true);
         
-        public static void setTraceId(String id) { traceId.set(id); }
-        public static String getTraceId() { return traceId.get(); }
+        /**
+         * Immutable trace state. Traces joined without a sampling decision are recorded,
+         * deferring to the caller. The start time is a primitive so creating a snapshot does
+         * not box it; {@link #NO_START_TIME} marks a trace without one.
+         */
+        public record Snapshot(String traceId, String spanId, long startTimeMillis, boolean sampled) {
+            
+            public static final long NO_START_TIME = Long.MIN_VALUE;
+            
+            public boolean hasStartTime() {
+                return startTimeMillis != NO_START_TIME;
+            }
+            
+            /**
+             * Start time in epoch millis, or null when the trace has none.
+             */
+            public Long startTime() {
+                return hasStartTime() ? startTimeMillis : null;
+            }
+            
+            /**
+             * Makes this the current thread's trace state until the returned scope is closed.
+             */
+            public Scope attach() {
+                return TraceContext.attach(this);
+            }
+        }
+        
+        /**
+         * Restores the trace state that was current before attach.
+         */
+        @FunctionalInterface
+        public interface Scope extends AutoCloseable {
+            @Override
+            void close();
+        }
         
-        public static void setSpanId(String id) { spanId.set(id); }
-        public static String getSpanId() { return spanId.get(); }
+        public static void setTraceId(String id) { update(new Snapshot(id, state().spanId(), state().startTimeMillis(), state().sampled())); }
+        public static String getTraceId() { return state().traceId(); }
         
-        public static void setStartTime(Long time) { startTime.set(time); }
-        public static Long getStartTime() { return startTime.get(); }
+        public static void setSpanId(String id) { update(new Snapshot(state().traceId(), id, state().startTimeMillis(), state().sampled())); }
+        public static String getSpanId() { return state().spanId(); }
+        
+        public static void setStartTime(Long time) { update(new Snapshot(state().traceId(), state().spanId(), time != null ? time : Snapshot.NO_START_TIME, state().sampled())); }
+        public static Long getStartTime() { return state().startTime(); }
+        
+        public static void setSampled(boolean value) { update(new Snapshot(state().traceId(), state().spanId(), state().startTimeMillis(), value)); }
+        public static boolean isSampled() { return state().sampled(); }
         
         public static void clear() {
-            traceId.remove();
-            spanId.remove();
-            startTime.remove();
+            current.remove();
         }
         
         public static void propagate(String trace, String span) {
-            traceId.set(trace);
-            spanId.set(span);
+            update(new Snapshot(trace, span, state().startTimeMillis(), state().sampled()));
+        }
+        
+        public static void propagate(String trace, String span, boolean isSampled) {
+            update(new Snapshot(trace, span, state().startTimeMillis(), isSampled));
+        }
+        
+        /**
+         * Current trace state, or null when the thread is not part of a trace.
+         */
+        public static Snapshot capture() {
+            return current.get();
+        }
+        
+        /**
+         * Replaces the current trace state; null clears it.
+         */
+        public static void restore(Snapshot snapshot) {
+            if (snapshot == null) {
+                current.remove();
+            } else {
+                current.set(snapshot);
+            }
+        }
+        
+        public static Scope attach(Snapshot snapshot) {
+            Snapshot previous = current.get();
+            restore(snapshot);
+            return () -> restore(previous);
+        }
+        
+        public static Runnable wrap(Runnable task) {
+            Snapshot snapshot = capture();
+            return () -> {
+                try (Scope ignored = attach(snapshot)) {
+                    task.run();
+                }
+            };
+        }
+        
+        public static <T> Callable<T> wrapCallable(Callable<T> task) {
+            Snapshot snapshot = capture();
+            return () -> {
+                try (Scope ignored = attach(snapshot)) {
+                    return task.call();
+                }
+            };
+        }
+        
+        public static <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+            Snapshot snapshot = capture();
+            return () -> {
+                try (Scope ignored = attach(snapshot)) {
+                    return task.get();
+                }
+            };
+        }
+        
+        /**
+         * Executor that runs every task with the trace state of the thread that submitted it,
+         * e.g. for {@code CompletableFuture.supplyAsync(supplier, TraceContext.wrap(executor))}.
+         */
+        public static Executor wrap(Executor executor) {
+            return command -> executor.execute(wrap(command));
+        }
+        
+        private static Snapshot state() {
+            Snapshot snapshot = current.get();
+            return snapshot != null ? snapshot : EMPTY;
+        }
+        
+        private static void update(Snapshot snapshot) {
+            current.set(snapshot);
         }
     }
-}
\ No newline at end of file
+}
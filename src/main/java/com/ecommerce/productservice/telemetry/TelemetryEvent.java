@@ -0,0 +1,47 @@
+package com.ecommerce.productservice.telemetry;
+
+/**
+ * Reusable, preallocated slot of the telemetry ring buffer.
+ *
+ * Producers only copy references and primitives into a slot; anything that would allocate
+ * (timestamps, derived operation names, span id strings) is stored in raw form and turned
+ * into the wire format by the flusher thread.
+ */
+final class TelemetryEvent {
+    
+    enum Kind { TRACE_START, TRACE_FINISH, SERVICE_CALL, STAGE, LOG }
+    
+    Kind kind;
+    String traceId;
+    String spanId;
+    String parentSpanId;
+    long childSpanBits;
+    String operation;
+    String target;
+    String httpMethod;
+    String httpUrl;
+    String userId;
+    String message;
+    long timestampMillis;
+    long durationMs;
+    long durationNanos;
+    int httpStatusCode;
+    
+    void clear() {
+        kind = null;
+        traceId = null;
+        spanId = null;
+        parentSpanId = null;
+        childSpanBits = 0;
+        operation = null;
+        target = null;
+        httpMethod = null;
+        httpUrl = null;
+        userId = null;
+        message = null;
+        timestampMillis = 0;
+        durationMs = 0;
+        durationNanos = 0;
+        httpStatusCode = 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.productservice.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer ring of preallocated TelemetryEvent slots.
+ *
+ * Each slot carries a sequence number (Vyukov's bounded queue): a producer may claim position
+ * {@code p} only when the slot's sequence equals {@code p}, claims it with one CAS on the tail,
+ * fills the slot in place and publishes it by setting the sequence to {@code p + 1}. The
+ * consumer reads published slots in order and hands them back by advancing the sequence a
+ * full lap. Claiming and publishing never allocate and never block; a full ring makes
+ * {@link #tryClaim()} fail so the caller can drop the event.
+ */
+final class TelemetryRingBuffer {
+    
+    private final TelemetryEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    
+    TelemetryRingBuffer(int requestedCapacity) {
+        int capacity = Math.max(2, Integer.highestOneBit(requestedCapacity - 1) << 1);
+        this.slots = new TelemetryEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new TelemetryEvent();
+            sequences.set(i, i);
+        }
+    }
+    
+    int capacity() {
+        return slots.length;
+    }
+    
+    /**
+     * Claims the next free position, or returns -1 when the ring is full.
+     */
+    long tryClaim() {
+        long position = tail.get();
+        while (true) {
+            long sequence = sequences.get((int) position & mask);
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+    
+    TelemetryEvent slot(long position) {
+        return slots[(int) position & mask];
+    }
+    
+    void publish(long position) {
+        sequences.lazySet((int) position & mask, position + 1);
+    }
+    
+    /**
+     * Hands up to {@code max} published events to the consumer in order and recycles their
+     * slots. Must only be called from one thread at a time.
+     */
+    int drain(Consumer<TelemetryEvent> consumer, int max) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            TelemetryEvent event = slots[index];
+            consumer.accept(event);
+            event.clear();
+            sequences.lazySet(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head.lazySet(position);
+        return drained;
+    }
+    
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
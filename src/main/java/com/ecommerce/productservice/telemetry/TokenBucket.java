@@ -0,0 +1,41 @@
+package com.ecommerce.productservice.telemetry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket holding up to one second's worth of permits.
+ *
+ * Implemented as a generic cell rate algorithm: instead of a token count it tracks the
+ * theoretical time at which the bucket would be full again, so acquiring a permit is a
+ * single CAS and refilling needs no background thread.
+ */
+final class TokenBucket {
+    
+    private static final long BURST_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private final long nanosPerPermit;
+    private final LongSupplier nanoClock;
+    private final AtomicLong fullAt;
+    
+    TokenBucket(long permitsPerSecond, LongSupplier nanoClock) {
+        this.nanosPerPermit = Math.max(1, BURST_NANOS / permitsPerSecond);
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+    
+    boolean tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + nanosPerPermit;
+            if (next - now > BURST_NANOS) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.productservice.telemetry;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets Micrometer context propagation carry TraceContext through Reactor pipelines: with
+ * automatic propagation enabled (spring.reactor.context-propagation=auto) the snapshot
+ * captured at subscription is restored around every operator, whichever scheduler it runs
+ * on. Registered through META-INF/services so it is also available outside Spring.
+ */
+public class TraceContextAccessor implements ThreadLocalAccessor<TelemetryClient.TraceContext.Snapshot> {
+    
+    public static final String KEY = "product-service.trace-context";
+    
+    @Override
+    public Object key() {
+        return KEY;
+    }
+    
+    @Override
+    public TelemetryClient.TraceContext.Snapshot getValue() {
+        return TelemetryClient.TraceContext.capture();
+    }
+    
+    @Override
+    public void setValue(TelemetryClient.TraceContext.Snapshot value) {
+        TelemetryClient.TraceContext.restore(value);
+    }
+    
+    @Override
+    public void setValue() {
+        TelemetryClient.TraceContext.clear();
+    }
+}
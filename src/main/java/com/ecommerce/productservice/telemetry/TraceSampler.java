@@ -0,0 +1,69 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which traces TelemetryClient records.
+ *
+ * The head decision is made once per trace in startTrace: a trace is sampled when it passes
+ * the fixed sample rate and, if a limit is configured, the traces-per-second token bucket.
+ * Unsampled traces still have their finishing span kept when they end in an error or run
+ * longer than the slow threshold, so the requests worth investigating are never lost.
+ */
+@Component
+public class TraceSampler {
+    
+    private final double sampleRate;
+    private final TokenBucket tokenBucket;
+    private final boolean keepErrors;
+    private final long slowThresholdMs;
+    
+    @Autowired
+    public TraceSampler(@Value("${telemetry.tracing.sample-rate:1.0}") double sampleRate,
+                        @Value("${telemetry.tracing.max-traces-per-second:0}") long maxTracesPerSecond,
+                        @Value("${telemetry.tracing.keep-errors:true}") boolean keepErrors,
+                        @Value("${telemetry.tracing.slow-threshold:0ms}") Duration slowThreshold) {
+        this(sampleRate, maxTracesPerSecond, keepErrors, slowThreshold, System::nanoTime);
+    }
+    
+    TraceSampler(double sampleRate, long maxTracesPerSecond, boolean keepErrors, Duration slowThreshold,
+                 LongSupplier nanoClock) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+        this.tokenBucket = maxTracesPerSecond > 0 ? new TokenBucket(maxTracesPerSecond, nanoClock) : null;
+        this.keepErrors = keepErrors;
+        this.slowThresholdMs = slowThreshold.toMillis();
+    }
+    
+    public static TraceSampler alwaysSample() {
+        return new TraceSampler(1.0, 0, true, Duration.ZERO);
+    }
+    
+    /**
+     * Head-based decision for a new trace.
+     */
+    public boolean sampleTrace() {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        return tokenBucket == null || tokenBucket.tryAcquire();
+    }
+    
+    /**
+     * Whether the finishing span of an unsampled trace should be recorded anyway.
+     */
+    public boolean keepUnsampled(int httpStatusCode, String errorMessage, long durationMs) {
+        if (keepErrors && (httpStatusCode >= 400 || errorMessage != null)) {
+            return true;
+        }
+        return slowThresholdMs > 0 && durationMs >= slowThresholdMs;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.productservice.telemetry;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a server span when a request reaches its handler and closes it once the response
+ * is complete.
+ *
+ * The span joins an upstream trace when the caller sends X-Trace-Id (with X-Span-Id as the
+ * parent span and X-Trace-Sampled carrying the caller's sampling decision); otherwise a new
+ * trace is started. The trace id is echoed back in X-Trace-Id. Spans are named after the
+ * matched route pattern, e.g. "GET /api/products/{id}", to keep operation names bounded.
+ * Async requests keep their span open across the async dispatch.
+ */
+public class TracingInterceptor implements AsyncHandlerInterceptor {
+    
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String SPAN_ID_HEADER = "X-Span-Id";
+    public static final String SAMPLED_HEADER = "X-Trace-Sampled";
+    
+    private static final String OPERATION_ATTRIBUTE = TracingInterceptor.class.getName() + ".operation";
+    private static final String SUSPENDED_TRACE_ATTRIBUTE = TracingInterceptor.class.getName() + ".suspendedTrace";
+    
+    private final TelemetryClient telemetryClient;
+    
+    public TracingInterceptor(TelemetryClient telemetryClient) {
+        this.telemetryClient = telemetryClient;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An async dispatch resumes the span opened by the original request
+        if (request.getAttribute(SUSPENDED_TRACE_ATTRIBUTE) instanceof TelemetryClient.TraceContext.Snapshot suspended) {
+            TelemetryClient.TraceContext.restore(suspended);
+            return true;
+        }
+        
+        String operation = operationName(request);
+        String traceId = telemetryClient.continueTrace(
+            request.getHeader(TRACE_ID_HEADER),
+            request.getHeader(SPAN_ID_HEADER),
+            parseSampled(request.getHeader(SAMPLED_HEADER)),
+            operation, request.getMethod(), request.getRequestURI(), null);
+        request.setAttribute(OPERATION_ATTRIBUTE, operation);
+        if (traceId != null) {
+            response.setHeader(TRACE_ID_HEADER, traceId);
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TelemetryClient.TraceContext.Snapshot trace = TelemetryClient.TraceContext.capture();
+        if (trace != null) {
+            request.setAttribute(SUSPENDED_TRACE_ATTRIBUTE, trace);
+        }
+        TelemetryClient.TraceContext.clear();
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            if (request.getAttribute(OPERATION_ATTRIBUTE) instanceof String operation) {
+                // Unhandled exceptions have not been turned into an error status yet
+                int status = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+                telemetryClient.finishTrace(operation, status, ex != null ? ex.getMessage() : null);
+            }
+        } finally {
+            TelemetryClient.TraceContext.clear();
+        }
+    }
+    
+    private static String operationName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+    
+    static Boolean parseSampled(String header) {
+        if (header == null) {
+            return null;
+        }
+        return switch (header.trim().toLowerCase()) {
+            case "1", "true" -> Boolean.TRUE;
+            case "0", "false" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+}
@@ -3,7 +3,9 @@ package com.ecommerce.productservice;
 import com.ecommerce.productservice.controller.ProductController;
 import com.ecommerce.productservice.model.Product;
 import com.ecommerce.productservice.repository.ProductRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -310,6 +312,138 @@ public class ProductServiceIntegrationTest {
         assertThat(guideProducts.get(0).getName()).isEqualTo("Spring Boot Guide");
     }
 
+    @Test
+    void getProductsPage_ShouldWalkCatalogWithCursor() throws Exception {
+        // Given
+        productRepository.save(createTestProduct("Product 1", "Electronics", new BigDecimal("29.99")));
+        productRepository.save(createTestProduct("Product 2", "Books", new BigDecimal("19.99")));
+        productRepository.save(createTestProduct("Product 3", "Books", new BigDecimal("9.99")));
+
+        // When
+        String firstPage = mockMvc.perform(get("/api/products/page").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(2)))
+                .andExpect(jsonPath("$.products[0].name").value("Product 1"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        long cursor = objectMapper.readTree(firstPage).get("nextCursor").asLong();
+
+        // Then
+        mockMvc.perform(get("/api/products/page").param("limit", "2").param("after", String.valueOf(cursor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(1)))
+                .andExpect(jsonPath("$.products[0].name").value("Product 3"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getProductsByIds_ShouldReturnProductsInRequestOrder() throws Exception {
+        // Given
+        Product first = productRepository.save(createTestProduct("First Product", "Electronics", new BigDecimal("29.99")));
+        Product second = productRepository.save(createTestProduct("Second Product", "Books", new BigDecimal("19.99")));
+        long missingId = second.getId() + 1000;
+
+        // When & Then
+        mockMvc.perform(get("/api/products/batch")
+                .param("ids", second.getId() + "," + missingId + "," + first.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(2)))
+                .andExpect(jsonPath("$.products[0].name").value("Second Product"))
+                .andExpect(jsonPath("$.products[1].name").value("First Product"))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId));
+    }
+
+    @Test
+    void bulkUpsertProducts_ShouldCreateAndUpdateInOneRequest() throws Exception {
+        // Given
+        Product existing = productRepository.save(createTestProduct("Existing Product", "Books", new BigDecimal("19.99")));
+        Product update = createTestProduct("Existing Product v2", "Books", new BigDecimal("21.99"));
+        update.setId(existing.getId());
+        List<Product> payload = List.of(
+            update,
+            createTestProduct("Bulk Product 1", "Electronics", new BigDecimal("9.99")),
+            createTestProduct("Bulk Product 2", "Electronics", new BigDecimal("14.99")));
+
+        // When
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.items[0].id").value(existing.getId()))
+                .andExpect(jsonPath("$.items[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[2].status").value("CREATED"))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        // Then
+        assertThat(productRepository.findAll()).hasSize(3);
+        assertThat(productRepository.findById(existing.getId()).orElseThrow().getName()).isEqualTo("Existing Product v2");
+        assertThat(productRepository.findByCategory("Electronics")).hasSize(2);
+    }
+
+    @Test
+    void searchProducts_ShouldFindProductsCreatedThroughTheApi() throws Exception {
+        // Given
+        Product product = createTestProduct("Ultralight Trekking Pole", "Sports", new BigDecimal("59.99"));
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(product)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/products/search").param("q", "ultralight trekking"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.products[0].name").value("Ultralight Trekking Pole"));
+    }
+
+    @Test
+    void resolveSkus_ShouldFindProductsCreatedThroughTheApi() throws Exception {
+        // Given
+        Product product = createTestProduct("Barcode Scanner", "Electronics", new BigDecimal("89.99"));
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(product)))
+                .andExpect(status().isOk());
+        Long productId = productRepository.findBySku("TEST-BARCODE-SCANNER").orElseThrow().getId();
+
+        // When & Then
+        mockMvc.perform(get("/api/products/sku/TEST-BARCODE-SCANNER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Barcode Scanner"));
+        mockMvc.perform(post("/api/products/sku/resolve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of("TEST-BARCODE-SCANNER", "UNKNOWN-SKU"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productIds['TEST-BARCODE-SCANNER']").value(productId))
+                .andExpect(jsonPath("$.missingSkus[0]").value("UNKNOWN-SKU"));
+    }
+
+    @Test
+    void getProductsByCategory_WithSmileAccept_ShouldReturnSameListingAsJson() throws Exception {
+        // Given
+        productRepository.save(createTestProduct("Trail Shoes", "Sports", new BigDecimal("119.99")));
+        productRepository.save(createTestProduct("Climbing Rope", "Sports", new BigDecimal("89.99")));
+
+        // When
+        byte[] smile = mockMvc.perform(get("/api/products/category/Sports").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/products/category/Sports"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        List<Product> fromSmile = new SmileMapper().readValue(smile, new TypeReference<List<Product>>() { });
+        List<Product> fromJson = objectMapper.readValue(json, new TypeReference<List<Product>>() { });
+        assertThat(fromSmile).extracting(Product::getName)
+                .containsExactlyInAnyOrderElementsOf(fromJson.stream().map(Product::getName).toList());
+        assertThat(smile.length).isLessThan(json.getBytes().length);
+    }
+
     private Product createTestProduct(String name, String category, BigDecimal price) {
         Product product = new Product();
         product.setName(name);
@@ -0,0 +1,125 @@
+package com.ecommerce.productservice.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogVersionTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    void markChanged_ShouldBumpCatalogAndOnlyTheChangedCategories() {
+        // Given
+        CatalogVersion versions = new CatalogVersion(clock::get);
+        clock.addAndGet(5_000);
+
+        // When
+        versions.markChanged("Books", null);
+
+        // Then
+        assertThat(versions.catalog().version()).isEqualTo(1);
+        assertThat(versions.catalog().lastModified()).isEqualTo(1_700_000_005_000L);
+        assertThat(versions.category("Books").version()).isEqualTo(1);
+        assertThat(versions.category("Electronics").version()).isZero();
+        assertThat(versions.category("Electronics").lastModified()).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void markChanged_WithinThePublishedSecond_ShouldMoveLastModifiedToTheNextSecond() {
+        // Given
+        clock.set(1_700_000_000_200L);
+        CatalogVersion versions = new CatalogVersion(clock::get);
+        clock.set(1_700_000_000_700L);
+
+        // When
+        versions.markChanged("Books");
+
+        // Then
+        assertThat(versions.catalog().lastModified()).isEqualTo(1_700_000_001_000L);
+        assertThat(versions.category("Books").lastModified()).isEqualTo(1_700_000_001_000L);
+        // A client that saw the listing at .200 sends If-Modified-Since truncated to the second
+        assertThat(versions.catalog().lastModified() / 1000).isGreaterThan(1_700_000_000_200L / 1000);
+    }
+
+    @Test
+    void eTag_ShouldBeWeakAndChangeWithEveryVersion() {
+        // Given
+        CatalogVersion versions = new CatalogVersion(clock::get);
+        String before = versions.category("Books").eTag();
+
+        // When
+        versions.markChanged("Books");
+
+        // Then
+        String after = versions.category("Books").eTag();
+        assertThat(before).startsWith("W/\"").endsWith("-0\"");
+        assertThat(after).startsWith("W/\"").endsWith("-1\"");
+    }
+
+    @Test
+    void eTag_WithVariant_ShouldDifferFromDefaultRepresentation() {
+        // Given
+        CatalogVersion versions = new CatalogVersion(clock::get);
+
+        // When
+        String json = versions.catalog().eTag();
+        String cbor = versions.catalog().eTag("cbor");
+
+        // Then
+        assertThat(json).isEqualTo(versions.catalog().eTag(null));
+        assertThat(cbor).startsWith("W/\"").endsWith("-0-cbor\"").isNotEqualTo(json);
+    }
+
+    @Test
+    void eTag_AfterRestart_ShouldNotMatchTagsFromBefore() {
+        // Given
+        String beforeRestart = new CatalogVersion(clock::get).catalog().eTag();
+        clock.addAndGet(60_000);
+
+        // When
+        String afterRestart = new CatalogVersion(clock::get).catalog().eTag();
+
+        // Then
+        assertThat(afterRestart).isNotEqualTo(beforeRestart);
+    }
+
+    @Test
+    void lastModified_ShouldNeverMoveBackwards() {
+        // Given
+        CatalogVersion versions = new CatalogVersion(clock::get);
+        clock.addAndGet(10_000);
+        versions.markChanged("Books");
+
+        // When - the wall clock steps back
+        clock.addAndGet(-60_000);
+        versions.markChanged("Books");
+
+        // Then
+        assertThat(versions.category("Books").lastModified()).isEqualTo(1_700_000_010_000L);
+        assertThat(versions.category("Books").version()).isEqualTo(2);
+    }
+
+    @Test
+    void markChanged_InsideTransaction_ShouldWaitForCommit() {
+        // Given
+        CatalogVersion versions = new CatalogVersion(clock::get);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            versions.markChanged("Books");
+
+            // Then
+            assertThat(versions.catalog().version()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(versions.catalog().version()).isEqualTo(1);
+            assertThat(versions.category("Books").version()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.ecommerce.productservice.cache;
+
+import com.ecommerce.productservice.model.Product;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProductCacheTest {
+
+    @Test
+    void get_ShouldLoadOnceAndRecordHitsAndMisses() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, id -> { loads.incrementAndGet(); return createProduct(id); });
+        cache.get(1L, id -> { loads.incrementAndGet(); return createProduct(id); });
+
+        // Then
+        ProductCacheStats stats = cache.stats();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void get_WhenLoaderThrows_ShouldPropagateAndCacheNothing() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> cache.get(999L, id -> { throw new RuntimeException("Product not found"); }));
+
+        assertThat(exception.getMessage()).isEqualTo("Product not found");
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    void put_BeyondMaximumSize_ShouldEvictAndCountEvictions() {
+        // Given
+        ProductCache cache = new ProductCache(2, Duration.ofMinutes(5));
+
+        // When
+        for (long id = 1; id <= 5; id++) {
+            cache.put(createProduct(id));
+        }
+        cache.cleanUp();
+
+        // Then
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void putAllIfUnchanged_WithoutInterveningWrite_ShouldCacheMissingProducts() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        long stamp = cache.writeStamp();
+
+        // When
+        cache.putAllIfUnchanged(List.of(createProduct(1L), createProduct(2L)), stamp);
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNotNull();
+        assertThat(cache.getIfPresent(2L)).isNotNull();
+    }
+
+    @Test
+    void putAllIfUnchanged_AfterInterveningInvalidate_ShouldNotCacheStaleRow() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        long stamp = cache.writeStamp();
+        Product staleRow = createProduct(1L);
+
+        // When
+        cache.invalidate(1L);
+        cache.putAllIfUnchanged(List.of(staleRow), stamp);
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void putAllIfUnchanged_AfterInterveningPut_ShouldKeepNewerEntry() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        long stamp = cache.writeStamp();
+        Product staleRow = createProduct(1L);
+        Product updated = createProduct(1L);
+
+        // When
+        cache.put(updated);
+        cache.putAllIfUnchanged(List.of(staleRow), stamp);
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isSameAs(updated);
+    }
+
+    @Test
+    void get_AfterTtlExpires_ShouldReload() {
+        // Given
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        ProductCache cache = new ProductCache(10, Duration.ofSeconds(30), ticker);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> { loads.incrementAndGet(); return createProduct(id); });
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.get(1L, id -> { loads.incrementAndGet(); return createProduct(id); });
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_ShouldRemoveEntry() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        cache.put(createProduct(1L));
+
+        // When
+        cache.invalidate(1L);
+
+        // Then
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> { loads.incrementAndGet(); return createProduct(id); });
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void put_WithOlderVersionThanCached_ShouldKeepNewerEntry() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        Product older = createProduct(1L);
+        older.setVersion(3);
+        Product newer = createProduct(1L);
+        newer.setVersion(4);
+        cache.put(newer);
+
+        // When
+        cache.put(older);
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isSameAs(newer);
+    }
+
+    @Test
+    void put_WithNewerVersionThanCached_ShouldReplaceEntry() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+        Product older = createProduct(1L);
+        older.setVersion(3);
+        Product newer = createProduct(1L);
+        newer.setVersion(4);
+        cache.put(older);
+
+        // When
+        cache.put(newer);
+
+        // Then
+        assertThat(cache.getIfPresent(1L)).isSameAs(newer);
+    }
+
+    @Test
+    void put_WithoutId_ShouldBeIgnored() {
+        // Given
+        ProductCache cache = new ProductCache(10, Duration.ofMinutes(5));
+
+        // When
+        cache.put(new Product());
+        cache.put(null);
+
+        // Then
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    private Product createProduct(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        return product;
+    }
+}
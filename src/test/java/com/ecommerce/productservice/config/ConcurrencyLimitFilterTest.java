@@ -0,0 +1,101 @@
+package com.ecommerce.productservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrencyLimitFilterTest {
+
+    @Test
+    void doFilter_WithFreePermit_ShouldPassThroughAndReleasePermit() throws Exception {
+        // Given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_WhenLimitReached_ShouldRejectWith503() throws Exception {
+        // Given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> blocked = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    inside.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            return null;
+        });
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/2"), response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(filter.getRejectedRequestCount()).isEqualTo(1);
+
+        // Clean up
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    void doFilter_WithLimitDisabled_ShouldNotLimit() throws Exception {
+        // Given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, Duration.ofMillis(50));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.getRejectedRequestCount()).isZero();
+    }
+
+    @Test
+    void doFilter_OutsideApi_ShouldNotTakePermit() throws Exception {
+        // Given
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/swagger-ui.html"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.getAvailablePermits()).isEqualTo(1);
+    }
+}
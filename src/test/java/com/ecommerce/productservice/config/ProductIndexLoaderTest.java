@@ -0,0 +1,118 @@
+package com.ecommerce.productservice.config;
+
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.repository.ProductRepository;
+import com.ecommerce.productservice.search.ProductAutocompleteIndex;
+import com.ecommerce.productservice.search.ProductCategoryIndex;
+import com.ecommerce.productservice.search.ProductSearchIndex;
+import com.ecommerce.productservice.search.ProductSkuIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductIndexLoaderTest {
+
+    @Mock
+    private DataLoader dataLoader;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    @Spy
+    private ProductAutocompleteIndex productAutocompleteIndex = new ProductAutocompleteIndex();
+
+    @Spy
+    private ProductCategoryIndex productCategoryIndex = new ProductCategoryIndex();
+
+    @Spy
+    private ProductSkuIndex productSkuIndex = new ProductSkuIndex();
+
+    @InjectMocks
+    private ProductIndexLoader productIndexLoader;
+
+    @Test
+    void loadIndexes_ShouldIndexEveryBatchOfTheCatalog() {
+        // Given
+        when(productRepository.findAllByOrderByIdAsc(PageRequest.of(0, 500)))
+            .thenReturn(List.of(createProduct(1L, "Gaming Laptop"), createProduct(2L, "Wireless Mouse")));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(2L, PageRequest.of(0, 500)))
+            .thenReturn(List.of(createProduct(3L, "Clean Code")));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(3L, PageRequest.of(0, 500)))
+            .thenReturn(List.of());
+
+        // When
+        productIndexLoader.loadIndexes();
+
+        // Then
+        assertThat(productSearchIndex.size()).isEqualTo(3);
+        assertThat(productSearchIndex.search("clean code", 0, 10).getProductIds()).containsExactly(3L);
+        verify(productSearchIndex, times(3)).index(any(Product.class));
+        assertThat(productAutocompleteIndex.size()).isEqualTo(3);
+        assertThat(productAutocompleteIndex.complete("wire", 10)).hasSize(1);
+        assertThat(productCategoryIndex.summary("Electronics").getProductCount()).isEqualTo(2);
+        assertThat(productSkuIndex.idOf("SKU-3")).isEqualTo(3L);
+    }
+
+    @Test
+    void loadIndexes_WithEmptyCatalog_ShouldIndexNothing() {
+        // Given
+        when(productRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+        // When
+        productIndexLoader.loadIndexes();
+
+        // Then
+        assertThat(productSearchIndex.size()).isZero();
+        assertThat(productAutocompleteIndex.size()).isZero();
+        assertThat(productCategoryIndex.size()).isZero();
+        verify(productRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    void start_ShouldSeedCatalogBeforeIndexingIt() throws Exception {
+        // Given
+        when(productRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(createProduct(1L, "Gaming Laptop")));
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(any(), any())).thenReturn(List.of());
+
+        // When
+        productIndexLoader.start();
+
+        // Then
+        InOrder inOrder = inOrder(dataLoader, productRepository);
+        inOrder.verify(dataLoader).run();
+        inOrder.verify(productRepository).findAllByOrderByIdAsc(any());
+        assertThat(productSkuIndex.idOf("SKU-1")).isEqualTo(1L);
+        assertThat(productIndexLoader.isRunning()).isTrue();
+    }
+
+    @Test
+    void getPhase_ShouldStartBeforeTheWebServer() {
+        // When & Then
+        assertThat(productIndexLoader.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    private Product createProduct(Long id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setCategory(id == 3L ? "Books" : "Electronics");
+        product.setSku("SKU-" + id);
+        return product;
+    }
+}
@@ -1,22 +1,44 @@
 package com.ecommerce.productservice.controller;
 
+import com.ecommerce.productservice.cache.CatalogVersion;
+import com.ecommerce.productservice.cache.ProductCacheStats;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.model.BulkItemResult;
+import com.ecommerce.productservice.model.BulkUpsertResult;
+import com.ecommerce.productservice.model.CartAvailability;
+import com.ecommerce.productservice.model.CartLine;
+import com.ecommerce.productservice.model.CategoryListing;
+import com.ecommerce.productservice.model.CategorySummary;
 import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductBatch;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import com.ecommerce.productservice.model.SkuResolution;
+import com.ecommerce.productservice.model.StockReservation;
+import com.ecommerce.productservice.search.Suggestion;
 import com.ecommerce.productservice.service.ProductService;
 import com.ecommerce.productservice.telemetry.TelemetryClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +46,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductController.class)
+@Import(CatalogVersion.class)
 @ActiveProfiles("test")
 public class ProductControllerTest {
 
@@ -39,6 +62,9 @@ public class ProductControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogVersion catalogVersion;
+
     private Product testProduct;
 
     @BeforeEach
@@ -207,7 +233,7 @@ public class ProductControllerTest {
         updatedProduct.setName("Updated Product");
         updatedProduct.setPrice(new BigDecimal("39.99"));
 
-        when(productService.updateProduct(eq(1L), any(Product.class))).thenReturn(updatedProduct);
+        when(productService.updateProduct(eq(1L), any(Product.class), isNull())).thenReturn(updatedProduct);
 
         // When & Then
         mockMvc.perform(put("/api/products/1")
@@ -217,7 +243,7 @@ public class ProductControllerTest {
                 .andExpect(jsonPath("$.name").value("Updated Product"))
                 .andExpect(jsonPath("$.price").value(39.99));
 
-        verify(productService).updateProduct(eq(1L), any(Product.class));
+        verify(productService).updateProduct(eq(1L), any(Product.class), isNull());
     }
 
     @Test
@@ -226,7 +252,7 @@ public class ProductControllerTest {
         Product updateData = new Product();
         updateData.setName("Updated Product");
 
-        when(productService.updateProduct(eq(999L), any(Product.class)))
+        when(productService.updateProduct(eq(999L), any(Product.class), isNull()))
                 .thenThrow(new RuntimeException("Product not found"));
 
         // When & Then
@@ -238,7 +264,7 @@ public class ProductControllerTest {
             // Exception is expected for unhandled RuntimeException
         }
 
-        verify(productService).updateProduct(eq(999L), any(Product.class));
+        verify(productService).updateProduct(eq(999L), any(Product.class), isNull());
     }
 
     @Test
@@ -252,7 +278,7 @@ public class ProductControllerTest {
         ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
         request.setQuantity(20);
 
-        when(productService.updateStock(1L, 20)).thenReturn(updatedProduct);
+        when(productService.updateStock(1L, 20, null)).thenReturn(updatedProduct);
 
         // When & Then
         mockMvc.perform(put("/api/products/1/stock")
@@ -261,7 +287,7 @@ public class ProductControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.stockQuantity").value(20));
 
-        verify(productService).updateStock(1L, 20);
+        verify(productService).updateStock(1L, 20, null);
     }
 
     @Test
@@ -270,7 +296,7 @@ public class ProductControllerTest {
         ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
         request.setQuantity(-5);
 
-        when(productService.updateStock(1L, -5))
+        when(productService.updateStock(1L, -5, null))
                 .thenThrow(new RuntimeException("Invalid stock quantity"));
 
         // When & Then
@@ -282,7 +308,7 @@ public class ProductControllerTest {
             // Exception is expected for unhandled RuntimeException
         }
 
-        verify(productService).updateStock(1L, -5);
+        verify(productService).updateStock(1L, -5, null);
     }
 
     @Test
@@ -291,7 +317,7 @@ public class ProductControllerTest {
         ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
         request.setQuantity(10);
 
-        when(productService.updateStock(999L, 10))
+        when(productService.updateStock(999L, 10, null))
                 .thenThrow(new RuntimeException("Product not found"));
 
         // When & Then
@@ -303,25 +329,25 @@ public class ProductControllerTest {
             // Exception is expected for unhandled RuntimeException
         }
 
-        verify(productService).updateStock(999L, 10);
+        verify(productService).updateStock(999L, 10, null);
     }
 
     @Test
     void deleteProduct_ShouldReturnNoContent() throws Exception {
         // Given
-        doNothing().when(productService).deleteProduct(1L);
+        doNothing().when(productService).deleteProduct(1L, null);
 
         // When & Then
         mockMvc.perform(delete("/api/products/1"))
                 .andExpect(status().isNoContent());
 
-        verify(productService).deleteProduct(1L);
+        verify(productService).deleteProduct(1L, null);
     }
 
     @Test
     void deleteProduct_ShouldHandleNotFound() throws Exception {
         // Given
-        doThrow(new RuntimeException("Product not found")).when(productService).deleteProduct(999L);
+        doThrow(new RuntimeException("Product not found")).when(productService).deleteProduct(999L, null);
 
         // When & Then
         try {
@@ -330,7 +356,7 @@ public class ProductControllerTest {
             // Exception is expected for unhandled RuntimeException
         }
 
-        verify(productService).deleteProduct(999L);
+        verify(productService).deleteProduct(999L, null);
     }
 
     @Test
@@ -344,4 +370,576 @@ public class ProductControllerTest {
         // Then
         assertEquals(15, request.getQuantity());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getProductsPage_ShouldReturnProductsAndNextCursor() throws Exception {
+        // Given
+        ProductPage page = new ProductPage(List.of(ProductMapper.toResponse(testProduct)), 1L);
+        when(productService.getProductsPage(null, 1)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/page").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(1))
+                .andExpect(jsonPath("$.products[0].name").value("Test Product"))
+                .andExpect(jsonPath("$.nextCursor").value(1))
+                .andExpect(jsonPath("$.hasMore").value(true));
+
+        verify(productService).getProductsPage(null, 1);
+    }
+
+    @Test
+    void getProductsPage_WithCursor_ShouldUseDefaultLimit() throws Exception {
+        // Given
+        when(productService.getProductsPage(15L, 50)).thenReturn(new ProductPage(List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/page").param("after", "15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(productService).getProductsPage(15L, 50);
+    }
+
+    @Test
+    void getCacheStats_ShouldReturnCacheCounters() throws Exception {
+        // Given
+        when(productService.getCacheStats()).thenReturn(new ProductCacheStats(12, 30, 10, 2, 0.75));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(12))
+                .andExpect(jsonPath("$.hitCount").value(30))
+                .andExpect(jsonPath("$.missCount").value(10))
+                .andExpect(jsonPath("$.evictionCount").value(2))
+                .andExpect(jsonPath("$.hitRate").value(0.75));
+    }
+
+    @Test
+    void reserveStock_WithSufficientStock_ShouldReturnOk() throws Exception {
+        // Given
+        ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
+        request.setQuantity(2);
+        when(productService.reserveStock(1L, 2)).thenReturn(new StockReservation(1L, 2, true));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/1/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(1))
+                .andExpect(jsonPath("$.quantity").value(2))
+                .andExpect(jsonPath("$.reserved").value(true));
+
+        verify(productService).reserveStock(1L, 2);
+    }
+
+    @Test
+    void reserveStock_WithInsufficientStock_ShouldReturnConflict() throws Exception {
+        // Given
+        ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
+        request.setQuantity(500);
+        when(productService.reserveStock(1L, 500)).thenReturn(new StockReservation(1L, 500, false));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/1/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reserved").value(false));
+    }
+
+    @Test
+    void getProductsByIds_ShouldReturnFoundProductsAndMissingIds() throws Exception {
+        // Given
+        when(productService.getProductsByIds(List.of(1L, 999L)))
+                .thenReturn(new ProductBatch(List.of(ProductMapper.toResponse(testProduct)), List.of(999L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/batch").param("ids", "1,999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(1))
+                .andExpect(jsonPath("$.products[0].name").value("Test Product"))
+                .andExpect(jsonPath("$.missingIds[0]").value(999));
+
+        verify(productService).getProductsByIds(List.of(1L, 999L));
+    }
+
+    @Test
+    void getProductsByIds_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(productService.getProductsByIds(anyList()))
+                .thenThrow(new IllegalArgumentException("At most 500 product IDs can be requested at once"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/batch").param("ids", "1,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("At most 500 product IDs can be requested at once"));
+    }
+
+    @Test
+    void bulkUpsertProducts_ShouldReturnPerItemResults() throws Exception {
+        // Given
+        Product newProduct = new Product("Bulk Product", "Bulk", new BigDecimal("9.99"), 3);
+        BulkUpsertResult result = new BulkUpsertResult(List.of(
+                new BulkItemResult(0, 1L, BulkItemResult.Status.UPDATED, null),
+                new BulkItemResult(1, 2L, BulkItemResult.Status.CREATED, null),
+                new BulkItemResult(2, null, BulkItemResult.Status.FAILED, "name must not be blank")));
+        when(productService.bulkUpsert(anyList())).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testProduct, newProduct, new Product()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.items[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[2].error").value("name must not be blank"));
+
+        verify(productService).bulkUpsert(argThat(products -> products.size() == 3));
+    }
+
+    @Test
+    void checkAvailability_ShouldReturnCartVerdict() throws Exception {
+        // Given
+        List<CartLine> lines = List.of(new CartLine(1L, 2), new CartLine(2L, 5));
+        CartAvailability availability = new CartAvailability(List.of(
+                new CartAvailability.Line(1L, 2, 10, true),
+                new CartAvailability.Line(2L, 5, null, false)));
+        when(productService.checkAvailability(anyList())).thenReturn(availability);
+
+        // When & Then
+        mockMvc.perform(post("/api/products/availability")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(lines)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(false))
+                .andExpect(jsonPath("$.lines[0].available").value(true))
+                .andExpect(jsonPath("$.lines[0].stockQuantity").value(10))
+                .andExpect(jsonPath("$.lines[1].found").value(false))
+                .andExpect(jsonPath("$.lines[1].available").value(false));
+    }
+
+    @Test
+    void searchProducts_ShouldReturnSearchResult() throws Exception {
+        // Given
+        when(productService.searchProducts("test", 0, 20))
+                .thenReturn(new ProductSearchResult("test", 1, 0, 20, List.of(ProductMapper.toResponse(testProduct))));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/search").param("q", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.query").value("test"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(20))
+                .andExpect(jsonPath("$.products[0].name").value("Test Product"));
+
+        verify(productService).searchProducts("test", 0, 20);
+    }
+
+    @Test
+    void autocomplete_ShouldReturnSuggestions() throws Exception {
+        // Given
+        when(productService.autocomplete("tes", 10))
+                .thenReturn(List.of(new Suggestion(1L, "Test Product", Suggestion.Type.NAME)));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "tes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value(1))
+                .andExpect(jsonPath("$[0].text").value("Test Product"))
+                .andExpect(jsonPath("$[0].type").value("NAME"));
+
+        verify(productService).autocomplete("tes", 10);
+    }
+
+    @Test
+    void getProductsByCategoryPage_ShouldReturnSortedListing() throws Exception {
+        // Given
+        when(productService.getProductsByCategoryPage("Electronics", 1, 10, "price"))
+                .thenReturn(new CategoryListing("Electronics", 11, 1, 10, "price", List.of(ProductMapper.toResponse(testProduct))));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Electronics/page")
+                .param("page", "1").param("size", "10").param("sort", "price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("Electronics"))
+                .andExpect(jsonPath("$.total").value(11))
+                .andExpect(jsonPath("$.sort").value("price"))
+                .andExpect(jsonPath("$.products[0].id").value(1));
+    }
+
+    @Test
+    void getProductsByCategoryPage_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(productService.getProductsByCategoryPage("Electronics", 0, 20, "name"))
+                .thenThrow(new IllegalArgumentException("Unsupported sort: name"));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Electronics/page").param("sort", "name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Unsupported sort: name"));
+    }
+
+    @Test
+    void getCategorySummaries_ShouldReturnSummaryPerCategory() throws Exception {
+        // Given
+        when(productService.getCategorySummaries()).thenReturn(List.of(
+                new CategorySummary("Books", 3, new BigDecimal("29.99"), new BigDecimal("49.99")),
+                new CategorySummary("Electronics", 5, new BigDecimal("79.99"), new BigDecimal("1299.99"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/categories/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].category").value("Books"))
+                .andExpect(jsonPath("$[1].productCount").value(5))
+                .andExpect(jsonPath("$[1].maxPrice").value(1299.99));
+    }
+
+    @Test
+    void getCategorySummary_ShouldReturnSummary() throws Exception {
+        // Given
+        when(productService.getCategorySummary("Books"))
+                .thenReturn(new CategorySummary("Books", 3, new BigDecimal("29.99"), new BigDecimal("49.99")));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Books/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productCount").value(3))
+                .andExpect(jsonPath("$.minPrice").value(29.99));
+    }
+
+    @Test
+    void getProductBySku_ShouldReturnProduct() throws Exception {
+        // Given
+        when(productService.getProductBySku("TEST-001")).thenReturn(testProduct);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/sku/TEST-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.sku").value("TEST-001"));
+    }
+
+    @Test
+    void resolveSkus_ShouldReturnProductIdsAndMissingSkus() throws Exception {
+        // Given
+        when(productService.resolveSkus(List.of("TEST-001", "NOPE-001")))
+                .thenReturn(new SkuResolution(Map.of("TEST-001", 1L), List.of("NOPE-001")));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/sku/resolve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of("TEST-001", "NOPE-001"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productIds['TEST-001']").value(1))
+                .andExpect(jsonPath("$.missingSkus[0]").value("NOPE-001"));
+    }
+
+    @Test
+    void createProduct_WithSkuInUse_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(productService.createProduct(any(Product.class)))
+                .thenThrow(new IllegalArgumentException("SKU already in use: TEST-001"));
+
+        // When & Then
+        mockMvc.perform(post("/api/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testProduct)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("SKU already in use: TEST-001"));
+    }
+
+    @Test
+    void getProductById_ShouldReturnVersionAsETag() throws Exception {
+        // Given
+        testProduct.setVersion(3L);
+        when(productService.getProductById(1L)).thenReturn(testProduct);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void getProductById_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutBody() throws Exception {
+        // Given
+        testProduct.setVersion(3L);
+        when(productService.getProductById(1L)).thenReturn(testProduct);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void updateProduct_WithIfMatch_ShouldPassExpectedVersionAndReturnNewETag() throws Exception {
+        // Given
+        Product updatedProduct = new Product("Updated Product", "Updated", new BigDecimal("39.99"), 10);
+        updatedProduct.setId(1L);
+        updatedProduct.setVersion(4L);
+        when(productService.updateProduct(eq(1L), any(Product.class), eq(3L))).thenReturn(updatedProduct);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedProduct)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void updateStock_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Given
+        ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
+        request.setQuantity(20);
+        when(productService.updateStock(1L, 20, 2L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1/stock")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void deleteProduct_WithWeakIfMatch_ShouldNeverMatch() throws Exception {
+        // Given
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .when(productService).deleteProduct(1L, -1L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/products/1").header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateProduct_WhenChangedConcurrentlyWithoutIfMatch_ShouldReturnConflict() throws Exception {
+        // Given
+        when(productService.updateProduct(eq(1L), any(Product.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testProduct)))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Product was modified by another request"));
+    }
+
+    @Test
+    void getAllProducts_ShouldReturnCatalogValidators() throws Exception {
+        // Given
+        when(productService.getAllProducts()).thenReturn(List.of(testProduct));
+
+        // When & Then
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.catalog().eTag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    void getAllProducts_WithCurrentCatalogETag_ShouldReturnNotModifiedWithoutQuery() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, catalogVersion.catalog().eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    void getProductsByCategory_AfterCategoryChange_ShouldReturnFreshListing() throws Exception {
+        // Given
+        String staleETag = catalogVersion.category("Electronics").eTag();
+        catalogVersion.markChanged("Electronics");
+        when(productService.getProductsByCategory("Electronics")).thenReturn(List.of(testProduct));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Electronics").header(HttpHeaders.IF_NONE_MATCH, staleETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.category("Electronics").eTag()))
+                .andExpect(jsonPath("$[0].category").value("Electronics"));
+    }
+
+    @Test
+    void getProductsByCategory_WhenOtherCategoryChanged_ShouldStillReturnNotModified() throws Exception {
+        // Given
+        String eTag = catalogVersion.category("Books").eTag();
+        catalogVersion.markChanged("Electronics");
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Books").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).getProductsByCategory(anyString());
+    }
+
+    @Test
+    void getProductsPage_WithIfModifiedSince_ShouldReturnNotModified() throws Exception {
+        // Given
+        long lastModified = catalogVersion.catalog().lastModified();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(lastModified + 1000);
+
+        // When & Then
+        mockMvc.perform(get("/api/products/page").headers(headers))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).getProductsPage(any(), anyInt());
+    }
+
+    @Test
+    void getAllProducts_WithFields_ShouldReturnOnlyRequestedAttributes() throws Exception {
+        // Given
+        when(productService.getAllProductFields(List.of("id", "name", "price")))
+                .thenReturn(List.of(Map.of("id", 1L, "name", "Test Product", "price", new BigDecimal("29.99"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "name, price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Test Product"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    void getProductsByCategory_WithFields_ShouldUseProjection() throws Exception {
+        // Given
+        when(productService.getProductFieldsByCategory("Electronics", List.of("id", "stockQuantity")))
+                .thenReturn(List.of(Map.of("id", 1L, "stockQuantity", 10)));
+
+        // When & Then
+        mockMvc.perform(get("/api/products/category/Electronics").param("fields", "stockQuantity,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].stockQuantity").value(10))
+                .andExpect(jsonPath("$[0].name").doesNotExist());
+    }
+
+    @Test
+    void getAllProducts_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products").param("fields", "name,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(startsWith("Unknown field: secret")));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getProductById_WithCborAccept_ShouldReturnCborDocument() throws Exception {
+        // Given
+        when(productService.getProductById(1L)).thenReturn(testProduct);
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/products/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        Product decoded = new CBORMapper().readValue(body, Product.class);
+        assertEquals("Test Product", decoded.getName());
+        assertEquals(new BigDecimal("29.99"), decoded.getPrice());
+    }
+
+    @Test
+    void getAllProducts_WithoutAccept_ShouldStillReturnJson() throws Exception {
+        // Given
+        when(productService.getAllProducts()).thenReturn(List.of(testProduct));
+
+        // When & Then
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getProductById_WithCborAccept_ShouldVaryByAccept() throws Exception {
+        // Given
+        testProduct.setVersion(3L);
+        when(productService.getProductById(1L)).thenReturn(testProduct);
+
+        // When
+        String jsonETag = mockMvc.perform(get("/api/products/1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        mockMvc.perform(get("/api/products/1")
+                        .accept("application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+        assertEquals("\"3\"", jsonETag);
+    }
+
+    @Test
+    void updateStock_WithCborETagInIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Given
+        ProductController.StockUpdateRequest request = new ProductController.StockUpdateRequest();
+        request.setQuantity(20);
+        testProduct.setVersion(4L);
+        when(productService.updateStock(1L, 20, 3L)).thenReturn(testProduct);
+
+        // When & Then
+        mockMvc.perform(put("/api/products/1/stock")
+                .header(HttpHeaders.IF_MATCH, "\"3-cbor\"")
+                .accept("application/cbor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4-cbor\""));
+    }
+
+    @Test
+    void getAllProducts_WithCurrentCatalogETag_ShouldVaryByAcceptOnNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, catalogVersion.catalog().eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
+
+    @Test
+    void getAllProducts_WithJsonETagAndCborAccept_ShouldReturnFreshCborListing() throws Exception {
+        // Given
+        when(productService.getAllProducts()).thenReturn(List.of(testProduct));
+
+        // When & Then
+        mockMvc.perform(get("/api/products")
+                        .accept("application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, catalogVersion.catalog().eTag()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string(HttpHeaders.ETAG, catalogVersion.catalog().eTag("cbor")));
+    }
+
+    @Test
+    void getAllProducts_WithCborETagAndCborAccept_ShouldReturnNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/products")
+                        .accept("application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, catalogVersion.catalog().eTag("cbor")))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).getAllProducts();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ecommerce.productservice.controller;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.service.ProductService;
+import com.ecommerce.productservice.telemetry.TelemetryClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProductExportController.class)
+@ActiveProfiles("test")
+public class ProductExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private TelemetryClient telemetryClient;
+
+    @Test
+    void exportProducts_ShouldStreamEveryBatchAsNdjson() throws Exception {
+        // Given
+        ProductResponse laptop = createProduct(1L, "Gaming Laptop");
+        ProductResponse mouse = createProduct(2L, "Wireless Mouse");
+        ProductResponse keyboard = createProduct(3L, "Mechanical Keyboard");
+
+        when(productService.getProductsPage(isNull(), anyInt()))
+            .thenReturn(new ProductPage(List.of(laptop, mouse), 2L));
+        when(productService.getProductsPage(eq(2L), anyInt()))
+            .thenReturn(new ProductPage(List.of(keyboard), null));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines[0], Product.class).getName()).isEqualTo("Gaming Laptop");
+        assertThat(objectMapper.readValue(lines[1], Product.class).getName()).isEqualTo("Wireless Mouse");
+        assertThat(objectMapper.readValue(lines[2], Product.class).getName()).isEqualTo("Mechanical Keyboard");
+        verify(productService).getProductsPage(isNull(), eq(500));
+        verify(productService).getProductsPage(eq(2L), eq(500));
+    }
+
+    @Test
+    void exportProducts_WithEmptyCatalog_ShouldStreamEmptyBody() throws Exception {
+        // Given
+        when(productService.getProductsPage(isNull(), anyInt()))
+            .thenReturn(new ProductPage(List.of(), null));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+        verify(productService, times(1)).getProductsPage(isNull(), anyInt());
+    }
+
+    private ProductResponse createProduct(Long id, String name) {
+        return new ProductResponse(id, name, null, new BigDecimal("9.99"), 5, "Electronics", null, null, 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.productservice.controller;
+
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.service.ReactiveProductService;
+import com.ecommerce.productservice.telemetry.TelemetryClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveProductController.class)
+@ActiveProfiles("test")
+public class ReactiveProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReactiveProductService reactiveProductService;
+
+    @MockBean
+    private TelemetryClient telemetryClient;
+
+    @Test
+    void getProductById_ShouldReturnProduct() throws Exception {
+        // Given
+        when(reactiveProductService.getProductById(1L)).thenReturn(Mono.just(createProduct(1L, "Gaming Laptop")));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/reactive/products/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.name").value("Gaming Laptop"));
+    }
+
+    @Test
+    void getProductsByCategory_ShouldStreamProductsAsNdjson() throws Exception {
+        // Given
+        when(reactiveProductService.getProductsByCategory("Electronics"))
+            .thenReturn(Flux.just(createProduct(1L, "Gaming Laptop"), createProduct(2L, "Wireless Mouse")));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/reactive/products/category/Electronics")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(5_000);
+
+        // Then
+        assertThat(mvcResult.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], Product.class).getName()).isEqualTo("Gaming Laptop");
+        assertThat(objectMapper.readValue(lines[1], Product.class).getName()).isEqualTo("Wireless Mouse");
+    }
+
+    @Test
+    void searchProducts_ShouldStreamMatchesAsNdjson() throws Exception {
+        // Given
+        when(reactiveProductService.searchProducts("mouse", 5))
+            .thenReturn(Flux.just(createProduct(2L, "Wireless Mouse")));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/reactive/products/search")
+                        .param("q", "mouse")
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(5_000);
+
+        // Then
+        String body = mvcResult.getResponse().getContentAsString();
+        assertThat(body.trim().split("\n")).hasSize(1);
+        assertThat(objectMapper.readValue(body.trim(), Product.class).getId()).isEqualTo(2L);
+    }
+
+    private ProductResponse createProduct(Long id, String name) {
+        return new ProductResponse(id, name, null, new BigDecimal("19.99"), 10, "Electronics", null, "SKU-" + id, 0);
+    }
+}
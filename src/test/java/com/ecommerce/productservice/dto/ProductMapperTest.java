@@ -0,0 +1,45 @@
+package com.ecommerce.productservice.dto;
+
+import com.ecommerce.productservice.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductMapperTest {
+    
+    @Test
+    void toResponse_ShouldCopyEveryAttribute() {
+        // Given
+        Product product = new Product("Wireless Mouse", "Ergonomic mouse", new BigDecimal("29.99"), 50);
+        product.setCategory("Electronics");
+        product.setSku("TECH-MOUSE-001");
+        product.setId(7L);
+        product.setImageUrl("https://images.example.com/7.png");
+        product.setVersion(3L);
+        
+        // When
+        ProductResponse response = ProductMapper.toResponse(product);
+        
+        // Then
+        assertThat(response).isEqualTo(new ProductResponse(7L, "Wireless Mouse", "Ergonomic mouse",
+            new BigDecimal("29.99"), 50, "Electronics", "https://images.example.com/7.png", "TECH-MOUSE-001", 3L));
+    }
+    
+    @Test
+    void toResponses_ShouldKeepOrder() {
+        // Given
+        Product first = new Product();
+        first.setId(2L);
+        Product second = new Product();
+        second.setId(1L);
+        
+        // When
+        List<ProductResponse> responses = ProductMapper.toResponses(List.of(first, second));
+        
+        // Then
+        assertThat(responses).extracting(ProductResponse::id).containsExactly(2L, 1L);
+    }
+}
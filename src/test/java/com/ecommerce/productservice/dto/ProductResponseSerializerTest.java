@@ -0,0 +1,62 @@
+package com.ecommerce.productservice.dto;
+
+import com.ecommerce.productservice.model.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductResponseSerializerTest {
+    
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    
+    @Test
+    void serialize_ShouldMatchEntityJson() throws Exception {
+        // Given
+        Product product = new Product("Wireless Mouse", "Ergonomic \"pro\" mouse", new BigDecimal("29.90"), 50);
+        product.setCategory("Electronics");
+        product.setSku("TECH-MOUSE-001");
+        product.setId(7L);
+        product.setImageUrl("https://images.example.com/7.png");
+        product.setVersion(3L);
+        
+        // When
+        String json = objectMapper.writeValueAsString(ProductMapper.toResponse(product));
+        
+        // Then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(product));
+    }
+    
+    @Test
+    void serialize_WithMissingAttributes_ShouldWriteNulls() throws Exception {
+        // Given
+        Product product = new Product();
+        
+        // When
+        String json = objectMapper.writeValueAsString(ProductMapper.toResponse(product));
+        
+        // Then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(product));
+        assertThat(json).contains("\"id\":null", "\"price\":null", "\"sku\":null", "\"version\":0");
+    }
+    
+    @Test
+    void serialize_WithBinaryFormat_ShouldRoundTrip() throws Exception {
+        // Given
+        CBORMapper cborMapper = new CBORMapper();
+        ProductResponse response = new ProductResponse(1L, "Mouse", null, new BigDecimal("9.99"), 5, "Electronics", null, "TECH-1", 2L);
+        
+        // When
+        Map<?, ?> decoded = cborMapper.readValue(cborMapper.writeValueAsBytes(response), Map.class);
+        
+        // Then
+        assertThat(decoded.get("name")).isEqualTo("Mouse");
+        assertThat(decoded.get("sku")).isEqualTo("TECH-1");
+        assertThat(decoded.containsKey("description")).isTrue();
+    }
+}
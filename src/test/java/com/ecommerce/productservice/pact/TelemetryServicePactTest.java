@@ -25,8 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
  * CONTRACT PUBLISHING: Use './gradlew pactPublish' to publish to Pactflow broker
  * 
  * Expected behavior:
- * - TelemetryClient sends POST requests to /api/telemetry/events
- * - Request body contains fields actually sent by the client (conservative approach)
+ * - TelemetryClient queues events and sends them in batches as POST requests to /api/telemetry/events/batch
+ * - Request body is an array of events containing fields actually sent by the client (conservative approach)
  * - Mock server validates request structure matches contract exactly
  * - Contract file generated as product-service-telemetry-service.json
  * 
@@ -42,12 +42,12 @@ class TelemetryServicePactTest {
     @Pact(consumer = "product-service", provider = "telemetry-service")
     public V4Pact startTracePact(PactBuilder builder) {
         return builder
-            .expectsToReceiveHttpInteraction("a telemetry event for starting a trace", interaction -> interaction
+            .expectsToReceiveHttpInteraction("a batch of telemetry events starting a trace", interaction -> interaction
                 .withRequest(request -> request
-                    .path("/api/telemetry/events")
+                    .path("/api/telemetry/events/batch")
                     .method("POST")
                     .header("Content-Type", "application/json")
-                    .body(LambdaDsl.newJsonBody((body) -> body
+                    .body(LambdaDsl.newJsonArrayMinLike(1, (body) -> body
                         // Following "conservative in what you send" principle
                         // Only include fields actually sent by TelemetryClient
                         .stringType("traceId")
@@ -82,18 +82,16 @@ class TelemetryServicePactTest {
 
     @Test
     @PactTestFor(pactMethod = "startTracePact")
-    void testStartTrace(MockServer mockServer) throws InterruptedException {
+    void testStartTrace(MockServer mockServer) {
         // Arrange: Create TelemetryClient with mock server URL
         TelemetryClient telemetryClient = createTelemetryClientWithMockUrl(mockServer.getUrl());
         
-        // Act: Start a trace - this should send telemetry data
+        // Act: Start a trace and flush the queued event as a batch
         assertDoesNotThrow(() -> {
             telemetryClient.startTrace("createProduct", "POST", "/api/products", "");
+            telemetryClient.flush();
         });
         
-        // Wait for asynchronous WebClient call to complete
-        Thread.sleep(1000);
-        
         // Assert: The contract verifies the HTTP interaction occurred as expected
         // No additional assertions needed as Pact verifies the HTTP call matches the contract
     }
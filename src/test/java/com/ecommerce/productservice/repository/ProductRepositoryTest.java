@@ -6,13 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -259,4 +263,144 @@ public class ProductRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIdGreaterThanOrderByIdAsc_ShouldReturnNextKeysetPage() {
+        // Given
+        List<Product> firstPage = productRepository.findAllByOrderByIdAsc(PageRequest.of(0, 2));
+
+        // When
+        List<Product> secondPage = productRepository.findByIdGreaterThanOrderByIdAsc(
+            firstPage.get(1).getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(firstPage).extracting(Product::getName)
+                .containsExactly("Gaming Laptop", "Spring Boot Guide");
+        assertThat(secondPage).extracting(Product::getName)
+                .containsExactly("Cotton T-Shirt");
+    }
+
+    @Test
+    void findByCategoryAndIdGreaterThanOrderByIdAsc_ShouldWalkCategoryInIdOrder() {
+        // Given
+        Product mouse = new Product();
+        mouse.setName("Wireless Mouse");
+        mouse.setPrice(new BigDecimal("29.99"));
+        mouse.setStockQuantity(50);
+        mouse.setCategory("Electronics");
+        mouse.setSku("TECH-MOUSE-001");
+        entityManager.persistAndFlush(mouse);
+
+        // When
+        List<Product> firstPage = productRepository.findByCategoryOrderByIdAsc("Electronics", PageRequest.of(0, 1));
+        List<Product> secondPage = productRepository.findByCategoryAndIdGreaterThanOrderByIdAsc(
+            "Electronics", firstPage.get(0).getId(), PageRequest.of(0, 1));
+
+        // Then
+        assertThat(firstPage).extracting(Product::getName).containsExactly("Gaming Laptop");
+        assertThat(secondPage).extracting(Product::getName).containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    void findStockLevelsByIdIn_ShouldReturnOnlyRequestedStockLevels() {
+        // When
+        List<StockLevel> levels = productRepository.findStockLevelsByIdIn(
+            List.of(electronicsProduct.getId(), clothingProduct.getId(), 999L));
+
+        // Then
+        assertThat(levels).hasSize(2);
+        assertThat(levels).extracting(StockLevel::getId)
+                .containsExactlyInAnyOrder(electronicsProduct.getId(), clothingProduct.getId());
+        assertThat(levels).extracting(StockLevel::getStockQuantity)
+                .containsExactlyInAnyOrder(10, 100);
+    }
+
+    @Test
+    void findBySku_ShouldReturnProductWithExactSku() {
+        // When
+        Optional<Product> found = productRepository.findBySku("BOOK-SPRING-001");
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getName()).isEqualTo("Spring Boot Guide");
+        assertThat(productRepository.findBySku("book-spring-001")).isEmpty();
+    }
+
+    @Test
+    void findSkuMappingsBySkuIn_ShouldReturnOnlyKnownSkus() {
+        // When
+        List<SkuMapping> mappings = productRepository.findSkuMappingsBySkuIn(
+            List.of("ELEC-LAPTOP-001", "CLOTH-TSHIRT-001", "UNKNOWN-001"));
+
+        // Then
+        assertThat(mappings).extracting(SkuMapping::getSku)
+                .containsExactlyInAnyOrder("ELEC-LAPTOP-001", "CLOTH-TSHIRT-001");
+        assertThat(mappings).extracting(SkuMapping::getId)
+                .containsExactlyInAnyOrder(electronicsProduct.getId(), clothingProduct.getId());
+    }
+
+    @Test
+    void save_WithDuplicateSku_ShouldViolateUniqueConstraint() {
+        // Given
+        Product duplicate = new Product("Another Laptop", "Same SKU", new BigDecimal("999.99"), 1);
+        duplicate.setSku("ELEC-LAPTOP-001");
+
+        // When & Then
+        assertThatThrownBy(() -> productRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(e -> assertThat(((DataIntegrityViolationException) e).getMostSpecificCause().getMessage())
+                        .containsIgnoringCase(Product.SKU_CONSTRAINT));
+    }
+
+    @Test
+    void decrementStock_ShouldBumpVersion() {
+        // Given
+        long versionBefore = electronicsProduct.getVersion();
+
+        // When
+        int updated = productRepository.decrementStock(electronicsProduct.getId(), 3);
+
+        // Then
+        Product reloaded = productRepository.findById(electronicsProduct.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.getStockQuantity()).isEqualTo(7);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    void saveAndFlush_ShouldIncrementVersionOnUpdate() {
+        // Given
+        long versionBefore = booksProduct.getVersion();
+
+        // When
+        booksProduct.setStockQuantity(49);
+        Product saved = productRepository.saveAndFlush(booksProduct);
+
+        // Then
+        assertThat(saved.getVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    void findAllProjected_ShouldReturnOnlyRequestedAttributesOrderedById() {
+        // When
+        List<Map<String, Object>> rows = productRepository.findAllProjected(List.of("id", "name", "price"));
+
+        // Then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).containsOnlyKeys("id", "name", "price");
+        assertThat(rows).extracting(row -> row.get("name"))
+                .containsExactly("Gaming Laptop", "Spring Boot Guide", "Cotton T-Shirt");
+        assertThat((BigDecimal) rows.get(1).get("price")).isEqualByComparingTo("39.99");
+    }
+
+    @Test
+    void findByCategoryProjected_ShouldFilterByCategory() {
+        // When
+        List<Map<String, Object>> rows = productRepository.findByCategoryProjected(
+            "Books", List.of("id", "stockQuantity"));
+
+        // Then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)).containsEntry("id", booksProduct.getId()).containsEntry("stockQuantity", 50);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductAutocompleteIndexTest {
+
+    private ProductAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductAutocompleteIndex();
+        index.index(createProduct(1L, "Gaming Laptop Pro", "TECH-LAPTOP-001"));
+        index.index(createProduct(2L, "Wireless Gaming Mouse", "TECH-MOUSE-001"));
+        index.index(createProduct(3L, "Cotton T-Shirt", "CLOTH-TSHIRT-001"));
+    }
+
+    @Test
+    void complete_ShouldMatchNamePrefixCaseInsensitively() {
+        // When
+        List<Suggestion> suggestions = index.complete("GAM", 10);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getProductId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(suggestions).extracting(Suggestion::getType).containsOnly(Suggestion.Type.NAME);
+    }
+
+    @Test
+    void complete_ShouldMatchStartOfInnerWords() {
+        // When
+        List<Suggestion> suggestions = index.complete("lap", 10);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getText).containsExactly("Gaming Laptop Pro");
+    }
+
+    @Test
+    void complete_ShouldMatchSkuPrefixIgnoringPunctuation() {
+        // When
+        List<Suggestion> suggestions = index.complete("tech-mou", 10);
+
+        // Then
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).getText()).isEqualTo("TECH-MOUSE-001");
+        assertThat(suggestions.get(0).getType()).isEqualTo(Suggestion.Type.SKU);
+        assertThat(suggestions.get(0).getProductId()).isEqualTo(2L);
+    }
+
+    @Test
+    void complete_ShouldReturnOneSuggestionPerProductAndType() {
+        // Given - "mouse" starts two indexed word positions of the same name
+        index.index(createProduct(4L, "Mouse Pad for Mouse", "ACC-PAD-001"));
+
+        // When
+        List<Suggestion> suggestions = index.complete("mouse", 10);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getProductId).containsExactlyInAnyOrder(2L, 4L);
+    }
+
+    @Test
+    void complete_ShouldRankNameStartsBeforeInnerWordsAndShorterNamesFirst() {
+        // Given
+        index.index(createProduct(4L, "Gaming Chair", "HOME-CHAIR-001"));
+
+        // When
+        List<Suggestion> suggestions = index.complete("gaming", 10);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getProductId).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void complete_WithLimit_ShouldKeepBestRankedMatches() {
+        // Given - in key order the inner word of "Wireless Gaming Mouse" would come first
+        index.index(createProduct(4L, "Mouse Pad", "ACC-PAD-001"));
+
+        // When
+        List<Suggestion> suggestions = index.complete("mouse", 1);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getProductId).containsExactly(4L);
+    }
+
+    @Test
+    void complete_ShouldHonorLimit() {
+        assertThat(index.complete("g", 1)).hasSize(1);
+        assertThat(index.complete("g", 0)).isEmpty();
+    }
+
+    @Test
+    void complete_WithBlankPrefix_ShouldReturnNothing() {
+        assertThat(index.complete("", 10)).isEmpty();
+        assertThat(index.complete(null, 10)).isEmpty();
+    }
+
+    @Test
+    void index_WithRenamedProduct_ShouldDropOldCompletions() {
+        // When
+        index.index(createProduct(1L, "Ultrabook Air", "TECH-LAPTOP-001"));
+
+        // Then
+        assertThat(index.complete("gaming l", 10)).isEmpty();
+        assertThat(index.complete("ultra", 10)).extracting(Suggestion::getProductId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void index_WithUnchangedName_ShouldKeepProductAndUpdateText() {
+        // When
+        index.index(createProduct(1L, "gaming laptop PRO", "TECH-LAPTOP-001"));
+
+        // Then
+        assertThat(index.complete("gaming lap", 10)).extracting(Suggestion::getText).containsExactly("gaming laptop PRO");
+        assertThat(index.complete("tech-lap", 10)).extracting(Suggestion::getProductId).containsExactly(1L);
+    }
+
+    @Test
+    void remove_ShouldDropAllCompletionsForProduct() {
+        // When
+        index.remove(2L);
+
+        // Then
+        assertThat(index.complete("wireless", 10)).isEmpty();
+        assertThat(index.complete("tech-mouse", 10)).isEmpty();
+        assertThat(index.complete("gaming", 10)).extracting(Suggestion::getProductId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private Product createProduct(Long id, String name, String sku) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setSku(sku);
+        return product;
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.CategorySummary;
+import com.ecommerce.productservice.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductCategoryIndexTest {
+
+    private ProductCategoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductCategoryIndex();
+        index.index(createProduct(1L, "Electronics", "1299.99"));
+        index.index(createProduct(2L, "Electronics", "79.99"));
+        index.index(createProduct(3L, "Books", "39.99"));
+        index.index(createProduct(4L, "Electronics", "149.99"));
+        index.index(createProduct(5L, "Electronics", "79.99"));
+    }
+
+    @Test
+    void page_SortedById_ShouldReturnRequestedSliceAndTotal() {
+        // When
+        SearchHits first = index.page("Electronics", ProductCategoryIndex.SortOrder.ID, 0, 3);
+        SearchHits second = index.page("Electronics", ProductCategoryIndex.SortOrder.ID, 3, 3);
+
+        // Then
+        assertThat(first.getTotal()).isEqualTo(4);
+        assertThat(first.getProductIds()).containsExactly(1L, 2L, 4L);
+        assertThat(second.getProductIds()).containsExactly(5L);
+    }
+
+    @Test
+    void page_SortedByPrice_ShouldReturnCheapestFirstWithIdTieBreak() {
+        // When
+        SearchHits hits = index.page("Electronics", ProductCategoryIndex.SortOrder.PRICE, 0, 10);
+
+        // Then
+        assertThat(hits.getProductIds()).containsExactly(2L, 5L, 4L, 1L);
+    }
+
+    @Test
+    void page_WithUnknownCategoryOrOffsetPastEnd_ShouldReturnNoIds() {
+        assertThat(index.page("Toys", ProductCategoryIndex.SortOrder.ID, 0, 10).getTotal()).isZero();
+        assertThat(index.page("Books", ProductCategoryIndex.SortOrder.ID, 5, 10).getProductIds()).isEmpty();
+        assertThat(index.page("Books", ProductCategoryIndex.SortOrder.ID, 5, 10).getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void summary_ShouldTrackCountAndPriceRange() {
+        // When
+        CategorySummary summary = index.summary("Electronics");
+
+        // Then
+        assertThat(summary.getProductCount()).isEqualTo(4);
+        assertThat(summary.getMinPrice()).isEqualByComparingTo("79.99");
+        assertThat(summary.getMaxPrice()).isEqualByComparingTo("1299.99");
+    }
+
+    @Test
+    void index_WhenProductChangesCategoryOrPrice_ShouldUpdateBothSummaries() {
+        // When
+        index.index(createProduct(1L, "Books", "9.99"));
+
+        // Then
+        assertThat(index.summary("Electronics").getProductCount()).isEqualTo(3);
+        assertThat(index.summary("Electronics").getMaxPrice()).isEqualByComparingTo("149.99");
+        assertThat(index.summary("Books").getMinPrice()).isEqualByComparingTo("9.99");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void remove_ShouldKeepDuplicatePricesUntilLastOneIsGone() {
+        // When
+        index.remove(2L);
+
+        // Then - product 5 still costs 79.99
+        assertThat(index.summary("Electronics").getMinPrice()).isEqualByComparingTo("79.99");
+
+        // When
+        index.remove(5L);
+
+        // Then
+        assertThat(index.summary("Electronics").getMinPrice()).isEqualByComparingTo("149.99");
+    }
+
+    @Test
+    void remove_LastProductInCategory_ShouldDropCategoryFromSummaries() {
+        // When
+        index.remove(3L);
+
+        // Then
+        assertThat(index.summaries()).extracting(CategorySummary::getCategory).containsExactly("Electronics");
+        CategorySummary books = index.summary("Books");
+        assertThat(books.getProductCount()).isZero();
+        assertThat(books.getMinPrice()).isNull();
+    }
+
+    @Test
+    void summaries_ShouldBeSortedByCategoryName() {
+        assertThat(index.summaries()).extracting(CategorySummary::getCategory).containsExactly("Books", "Electronics");
+    }
+
+    private Product createProduct(Long id, String category, String price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setCategory(category);
+        product.setPrice(new BigDecimal(price));
+        return product;
+    }
+}
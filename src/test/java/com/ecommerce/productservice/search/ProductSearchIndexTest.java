@@ -0,0 +1,113 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.index(createProduct(1L, "Gaming Laptop Pro", "High-performance gaming laptop with RTX 4080", "Electronics", "TECH-LAPTOP-001"));
+        index.index(createProduct(2L, "Wireless Gaming Mouse", "Ergonomic wireless gaming mouse with RGB", "Electronics", "TECH-MOUSE-001"));
+        index.index(createProduct(3L, "Clean Code", "A handbook of agile software craftsmanship", "Books", "BOOK-TECH-003"));
+        index.index(createProduct(4L, "Mouse Pad", "Large pad for a wireless mouse", "Accessories", "ACC-PAD-001"));
+    }
+
+    @Test
+    void tokenize_ShouldLowerCaseAndSplitOnNonAlphanumerics() {
+        assertThat(ProductSearchIndex.tokenize("TECH-LAPTOP-001 (RTX 4080)!"))
+                .containsExactly("tech", "laptop", "001", "rtx", "4080");
+        assertThat(ProductSearchIndex.tokenize(null)).isEmpty();
+        assertThat(ProductSearchIndex.tokenize(" -- ")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldRequireEveryTermAndRankByFieldWeight() {
+        // When
+        SearchHits hits = index.search("wireless mouse", 0, 10);
+
+        // Then - the name match outranks the description-only match
+        assertThat(hits.getTotal()).isEqualTo(2);
+        assertThat(hits.getProductIds()).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void search_ShouldMatchSkuAndCategoryTerms() {
+        assertThat(index.search("tech-mouse-001", 0, 10).getProductIds()).containsExactly(2L);
+        assertThat(index.search("BOOKS", 0, 10).getProductIds()).containsExactly(3L);
+    }
+
+    @Test
+    void search_WithUnknownTerm_ShouldReturnNoHits() {
+        SearchHits hits = index.search("gaming keyboard", 0, 10);
+
+        assertThat(hits.getTotal()).isZero();
+        assertThat(hits.getProductIds()).isEmpty();
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNoHits() {
+        assertThat(index.search("  ", 0, 10).getTotal()).isZero();
+        assertThat(index.search(null, 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void search_ShouldPageThroughRankedHits() {
+        // When
+        SearchHits firstPage = index.search("tech", 0, 2);
+        SearchHits secondPage = index.search("tech", 2, 2);
+
+        // Then
+        assertThat(firstPage.getTotal()).isEqualTo(3);
+        assertThat(firstPage.getProductIds()).containsExactly(1L, 2L);
+        assertThat(secondPage.getProductIds()).containsExactly(3L);
+    }
+
+    @Test
+    void index_WithUpdatedProduct_ShouldReplaceOldTerms() {
+        // When
+        index.index(createProduct(3L, "Refactoring", "Improving the design of existing code", "Books", "BOOK-TECH-004"));
+
+        // Then
+        assertThat(index.search("clean", 0, 10).getProductIds()).isEmpty();
+        assertThat(index.search("refactoring", 0, 10).getProductIds()).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void remove_ShouldDropProductFromEveryPostingList() {
+        // When
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("mouse", 0, 10).getProductIds()).containsExactly(4L);
+        assertThat(index.search("gaming", 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void index_WithoutId_ShouldBeIgnored() {
+        // When
+        index.index(createProduct(null, "Unsaved Product", null, null, null));
+
+        // Then
+        assertThat(index.search("unsaved", 0, 10).getTotal()).isZero();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private Product createProduct(Long id, String name, String description, String category, String sku) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setDescription(description);
+        product.setCategory(category);
+        product.setSku(sku);
+        return product;
+    }
+}
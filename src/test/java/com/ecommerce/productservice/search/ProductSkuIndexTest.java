@@ -0,0 +1,77 @@
+package com.ecommerce.productservice.search;
+
+import com.ecommerce.productservice.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductSkuIndexTest {
+
+    private ProductSkuIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSkuIndex();
+        index.index(createProduct(1L, "TECH-LAPTOP-001"));
+        index.index(createProduct(2L, "TECH-MOUSE-001"));
+    }
+
+    @Test
+    void idOf_ShouldMatchSkuExactly() {
+        assertThat(index.idOf("TECH-MOUSE-001")).isEqualTo(2L);
+        assertThat(index.idOf("tech-mouse-001")).isNull();
+        assertThat(index.idOf(null)).isNull();
+    }
+
+    @Test
+    void index_WhenSkuChanges_ShouldReleaseOldSku() {
+        // When
+        index.index(createProduct(1L, "TECH-LAPTOP-002"));
+
+        // Then
+        assertThat(index.idOf("TECH-LAPTOP-001")).isNull();
+        assertThat(index.idOf("TECH-LAPTOP-002")).isEqualTo(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void index_WithBlankSku_ShouldNotIndexProduct() {
+        // When
+        index.index(createProduct(3L, " "));
+        index.index(createProduct(4L, null));
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_ShouldDropSku() {
+        // When
+        index.remove(2L);
+
+        // Then
+        assertThat(index.idOf("TECH-MOUSE-001")).isNull();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_AfterSkuMovedToAnotherProduct_ShouldKeepNewOwner() {
+        // Given - product 2 was deleted and its SKU reused by product 3 before the removal arrived
+        index.index(createProduct(3L, "TECH-MOUSE-001"));
+
+        // When
+        index.remove(2L);
+
+        // Then
+        assertThat(index.idOf("TECH-MOUSE-001")).isEqualTo(3L);
+    }
+
+    private Product createProduct(Long id, String sku) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSku(sku);
+        return product;
+    }
+}
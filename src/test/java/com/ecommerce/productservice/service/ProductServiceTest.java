@@ -1,22 +1,59 @@
 package com.ecommerce.productservice.service;
 
+import com.ecommerce.productservice.cache.CatalogVersion;
+import com.ecommerce.productservice.cache.ProductCache;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.BulkItemResult;
+import com.ecommerce.productservice.model.BulkUpsertResult;
+import com.ecommerce.productservice.model.CartAvailability;
+import com.ecommerce.productservice.model.CartLine;
+import com.ecommerce.productservice.model.CategoryListing;
+import com.ecommerce.productservice.model.CategorySummary;
 import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductBatch;
+import com.ecommerce.productservice.model.ProductPage;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import com.ecommerce.productservice.model.SkuResolution;
+import com.ecommerce.productservice.model.StockReservation;
 import com.ecommerce.productservice.repository.ProductRepository;
+import com.ecommerce.productservice.repository.SkuMapping;
+import com.ecommerce.productservice.repository.StockLevel;
+import com.ecommerce.productservice.search.ProductAutocompleteIndex;
+import com.ecommerce.productservice.search.ProductCategoryIndex;
+import com.ecommerce.productservice.search.ProductSearchIndex;
+import com.ecommerce.productservice.search.ProductSkuIndex;
+import com.ecommerce.productservice.search.Suggestion;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +62,27 @@ public class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ProductCache productCache = new ProductCache(100, Duration.ofMinutes(5));
+
+    @Spy
+    private CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
+    @Spy
+    private ProductAutocompleteIndex productAutocompleteIndex = new ProductAutocompleteIndex();
+
+    @Spy
+    private ProductCategoryIndex productCategoryIndex = new ProductCategoryIndex();
+
+    @Spy
+    private ProductSkuIndex productSkuIndex = new ProductSkuIndex();
+
     @InjectMocks
     private ProductService productService;
 
@@ -307,4 +365,841 @@ public class ProductServiceTest {
         assertThat(exception.getMessage()).isEqualTo("Product not found");
         verify(productRepository).findById(999L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getProductsByCategoryAfter_ShouldReadKeysetPageOfCategory() {
+        // Given
+        when(productRepository.findByCategoryOrderByIdAsc("Electronics", PageRequest.of(0, 2)))
+            .thenReturn(List.of(testProduct));
+        when(productRepository.findByCategoryAndIdGreaterThanOrderByIdAsc("Electronics", 1L, PageRequest.of(0, ProductService.MAX_PAGE_SIZE)))
+            .thenReturn(List.of());
+
+        // When
+        List<Product> firstPage = productService.getProductsByCategoryAfter("Electronics", null, 2);
+        List<Product> nextPage = productService.getProductsByCategoryAfter("Electronics", 1L, 10_000);
+
+        // Then
+        assertThat(firstPage).containsExactly(testProduct);
+        assertThat(nextPage).isEmpty();
+    }
+
+    @Test
+    void getProductsPage_WithoutCursor_ShouldReturnFirstPageAndNextCursor() {
+        // Given
+        Product product2 = new Product();
+        product2.setId(2L);
+        Product product3 = new Product();
+        product3.setId(3L);
+
+        when(productRepository.findAllByOrderByIdAsc(PageRequest.of(0, 3)))
+            .thenReturn(Arrays.asList(testProduct, product2, product3));
+
+        // When
+        ProductPage result = productService.getProductsPage(null, 2);
+
+        // Then
+        assertThat(result.getProducts()).extracting(ProductResponse::id).containsExactly(1L, 2L);
+        assertThat(result.getNextCursor()).isEqualTo(2L);
+        assertThat(result.isHasMore()).isTrue();
+        verify(productRepository).findAllByOrderByIdAsc(PageRequest.of(0, 3));
+    }
+
+    @Test
+    void getProductsPage_WithCursorOnLastPage_ShouldReturnNullNextCursor() {
+        // Given
+        Product product2 = new Product();
+        product2.setId(2L);
+
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(1L, PageRequest.of(0, 11)))
+            .thenReturn(List.of(product2));
+
+        // When
+        ProductPage result = productService.getProductsPage(1L, 10);
+
+        // Then
+        assertThat(result.getProducts()).extracting(ProductResponse::id).containsExactly(2L);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.isHasMore()).isFalse();
+        verify(productRepository, never()).findAllByOrderByIdAsc(any());
+    }
+
+    @Test
+    void getProductsPage_WithOutOfRangeLimit_ShouldClampPageSize() {
+        // Given
+        when(productRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+        // When
+        productService.getProductsPage(null, 0);
+        productService.getProductsPage(null, 100_000);
+
+        // Then
+        verify(productRepository).findAllByOrderByIdAsc(PageRequest.of(0, 2));
+        verify(productRepository).findAllByOrderByIdAsc(PageRequest.of(0, ProductService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void getProductById_CalledTwice_ShouldServeSecondLookupFromCache() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When
+        Product first = productService.getProductById(1L);
+        Product second = productService.getProductById(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(productRepository, times(1)).findById(1L);
+        assertThat(productService.getCacheStats().getHitCount()).isEqualTo(1);
+        assertThat(productService.getCacheStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateStock_ShouldWriteThroughToCache() {
+        // Given
+        Product updatedProduct = new Product();
+        updatedProduct.setId(1L);
+        updatedProduct.setStockQuantity(3);
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenReturn(updatedProduct);
+        productService.getProductById(1L);
+
+        // When
+        productService.updateStock(1L, 3);
+        Product cached = productService.getProductById(1L);
+
+        // Then
+        assertThat(cached.getStockQuantity()).isEqualTo(3);
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void deleteProduct_ShouldInvalidateCachedProduct() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        productService.getProductById(1L);
+
+        // When
+        productService.deleteProduct(1L);
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(RuntimeException.class, () -> productService.getProductById(1L));
+        verify(productCache).invalidate(1L);
+    }
+
+    @Test
+    void reserveStock_WithSufficientStock_ShouldDecrementAtomically() {
+        // Given
+        when(productRepository.decrementStock(1L, 4)).thenReturn(1);
+
+        // When
+        StockReservation result = productService.reserveStock(1L, 4);
+
+        // Then
+        assertThat(result.isReserved()).isTrue();
+        assertThat(result.getProductId()).isEqualTo(1L);
+        assertThat(result.getQuantity()).isEqualTo(4);
+        verify(productCache).invalidate(1L);
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void reserveStock_WithInsufficientStock_ShouldReportNotReserved() {
+        // Given
+        when(productRepository.decrementStock(1L, 40)).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        StockReservation result = productService.reserveStock(1L, 40);
+
+        // Then
+        assertThat(result.isReserved()).isFalse();
+        verify(productCache, never()).invalidate(any());
+    }
+
+    @Test
+    void reserveStock_WithNonExistentProduct_ShouldThrowException() {
+        // Given
+        when(productRepository.decrementStock(999L, 1)).thenReturn(0);
+        when(productRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> productService.reserveStock(999L, 1));
+
+        assertThat(exception.getMessage()).isEqualTo("Product not found");
+    }
+
+    @Test
+    void reserveStock_WithNonPositiveQuantity_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.reserveStock(1L, 0));
+        assertThrows(IllegalArgumentException.class, () -> productService.reserveStock(1L, null));
+        verify(productRepository, never()).decrementStock(any(), anyInt());
+    }
+
+    @Test
+    void getProductsByIds_ShouldCombineCacheHitsWithSingleQueryForTheRest() {
+        // Given
+        Product product2 = new Product();
+        product2.setId(2L);
+        product2.setName("Product 2");
+        productCache.put(testProduct);
+
+        when(productRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(product2));
+
+        // When
+        ProductBatch result = productService.getProductsByIds(List.of(2L, 1L, 3L, 2L));
+
+        // Then
+        assertThat(result.getProducts()).extracting(ProductResponse::id).containsExactly(2L, 1L);
+        assertThat(result.getMissingIds()).containsExactly(3L);
+        verify(productRepository).findAllById(List.of(2L, 3L));
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void getProductsByIds_WhenAllCached_ShouldNotQueryRepository() {
+        // Given
+        productCache.put(testProduct);
+
+        // When
+        ProductBatch result = productService.getProductsByIds(List.of(1L));
+
+        // Then
+        assertThat(result.getProducts()).containsExactly(ProductMapper.toResponse(testProduct));
+        assertThat(result.getMissingIds()).isEmpty();
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductsByIds_WhenUpdateRacesWithRead_ShouldNotCacheStaleRow() {
+        // Given
+        Product staleRow = new Product("Old Name", null, new BigDecimal("29.99"), 10);
+        staleRow.setId(1L);
+        when(productRepository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+            // An update commits and evicts the product while this read is in flight
+            productCache.invalidate(1L);
+            return List.of(staleRow);
+        });
+
+        // When
+        ProductBatch result = productService.getProductsByIds(List.of(1L));
+
+        // Then
+        assertThat(result.getProducts()).containsExactly(ProductMapper.toResponse(staleRow));
+        assertThat(productCache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void getProductsByIds_WithTooManyIds_ShouldThrowException() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= ProductService.MAX_BATCH_SIZE + 1; id++) {
+            ids.add(id);
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsByIds(ids));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void bulkUpsert_ShouldCreateUpdateAndReportFailuresPerItem() {
+        // Given
+        Product update = new Product("Renamed Product", "Renamed", new BigDecimal("24.99"), 7);
+        update.setId(1L);
+        Product create = new Product("Brand New Product", "New", new BigDecimal("9.99"), 3);
+        Product invalid = new Product("", "Missing name", new BigDecimal("9.99"), 3);
+
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(testProduct));
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> toSave = invocation.getArgument(0);
+            toSave.stream().filter(product -> product.getId() == null).forEach(product -> product.setId(42L));
+            return toSave;
+        });
+
+        // When
+        BulkUpsertResult result = productService.bulkUpsert(Arrays.asList(update, create, invalid, null));
+
+        // Then
+        assertThat(result.getItems()).extracting(BulkItemResult::getStatus).containsExactly(
+            BulkItemResult.Status.UPDATED, BulkItemResult.Status.CREATED,
+            BulkItemResult.Status.FAILED, BulkItemResult.Status.FAILED);
+        assertThat(result.getItems()).extracting(BulkItemResult::getId).containsExactly(1L, 42L, null, null);
+        assertThat(result.getItems().get(2).getError()).isEqualTo("name must not be blank");
+        assertThat(result.getItems().get(3).getError()).isEqualTo("product must not be null");
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(testProduct.getName()).isEqualTo("Renamed Product");
+        verify(productCache).invalidate(1L);
+        verify(productRepository).flush();
+    }
+
+    @Test
+    void bulkUpsert_ShouldWriteInConfiguredChunks() {
+        // Given
+        ReflectionTestUtils.setField(productService, "bulkBatchSize", 2);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(new Product("Product " + i, "Bulk", new BigDecimal("1.99"), i));
+        }
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BulkUpsertResult result = productService.bulkUpsert(products);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(5);
+        verify(productRepository, times(3)).saveAll(anyList());
+        verify(productRepository, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void bulkUpsert_WithTooManyProducts_ShouldThrowException() {
+        // Given
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i <= ProductService.MAX_BULK_SIZE; i++) {
+            products.add(new Product());
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> productService.bulkUpsert(products));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void checkAvailability_ShouldReturnVerdictPerLineFromOneProjectionQuery() {
+        // Given
+        StockLevel laptopStock = stockLevel(1L, 10);
+        StockLevel mouseStock = stockLevel(2L, 1);
+        when(productRepository.findStockLevelsByIdIn(anyCollection())).thenReturn(List.of(laptopStock, mouseStock));
+
+        // When
+        CartAvailability result = productService.checkAvailability(List.of(
+            new CartLine(1L, 4), new CartLine(2L, 2), new CartLine(999L, 1)));
+
+        // Then
+        assertThat(result.isAvailable()).isFalse();
+        assertThat(result.getLines()).extracting(CartAvailability.Line::isAvailable).containsExactly(true, false, false);
+        assertThat(result.getLines()).extracting(CartAvailability.Line::getStockQuantity).containsExactly(10, 1, null);
+        assertThat(result.getLines().get(2).isFound()).isFalse();
+        verify(productRepository).findStockLevelsByIdIn(argThat(ids -> ids.containsAll(List.of(1L, 2L, 999L))));
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void checkAvailability_WithRepeatedProduct_ShouldSumQuantities() {
+        // Given
+        StockLevel laptopStock = stockLevel(1L, 5);
+        when(productRepository.findStockLevelsByIdIn(anyCollection())).thenReturn(List.of(laptopStock));
+
+        // When
+        CartAvailability result = productService.checkAvailability(List.of(new CartLine(1L, 3), new CartLine(1L, 3)));
+
+        // Then
+        assertThat(result.isAvailable()).isFalse();
+        assertThat(result.getLines()).extracting(CartAvailability.Line::getRequestedQuantity).containsExactly(3, 3);
+    }
+
+    @Test
+    void checkAvailability_WithInvalidLine_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> productService.checkAvailability(List.of(new CartLine(1L, 0))));
+        assertThrows(IllegalArgumentException.class,
+            () -> productService.checkAvailability(List.of(new CartLine(null, 1))));
+        verifyNoInteractions(productRepository);
+    }
+
+    private StockLevel stockLevel(Long id, Integer stockQuantity) {
+        return new StockLevel() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public Integer getStockQuantity() { return stockQuantity; }
+        };
+    }
+
+    @Test
+    void searchProducts_ShouldReturnRankedProductsFromIndex() {
+        // Given
+        Product mouse = new Product();
+        mouse.setId(2L);
+        mouse.setName("Wireless Mouse");
+        mouse.setCategory("Electronics");
+        productSearchIndex.index(testProduct);
+        productSearchIndex.index(mouse);
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(mouse));
+
+        // When
+        ProductSearchResult result = productService.searchProducts("wireless", 0, 20);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getProducts()).containsExactly(ProductMapper.toResponse(mouse));
+        assertThat(result.getQuery()).isEqualTo("wireless");
+        verify(productRepository, never()).findByNameContainingIgnoreCase(any());
+    }
+
+    @Test
+    void createProduct_ShouldIndexSavedProductForSearch() {
+        // Given
+        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        productService.createProduct(new Product());
+
+        // Then
+        assertThat(productSearchIndex.search("test product", 0, 10).getProductIds()).containsExactly(1L);
+    }
+
+    @Test
+    void deleteProduct_ShouldRemoveProductFromSearchIndex() {
+        // Given
+        productSearchIndex.index(testProduct);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When
+        productService.deleteProduct(1L);
+
+        // Then
+        assertThat(productSearchIndex.search("test", 0, 10).getTotal()).isZero();
+    }
+
+    @Test
+    void autocomplete_ShouldServeCompletionsWithoutRepositoryAccess() {
+        // Given
+        productAutocompleteIndex.index(testProduct);
+
+        // When
+        List<Suggestion> suggestions = productService.autocomplete("test p", 10);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::getProductId).containsExactly(1L);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void autocomplete_ShouldClampLimit() {
+        // When
+        productService.autocomplete("t", 1000);
+
+        // Then
+        verify(productAutocompleteIndex).complete("t", ProductService.MAX_SUGGESTIONS);
+    }
+
+    @Test
+    void updateProduct_ShouldRefreshAutocompleteEntries() {
+        // Given
+        Product updateData = new Product("Renamed Gadget", null, new BigDecimal("9.99"), 1);
+        productAutocompleteIndex.index(testProduct);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        productService.updateProduct(1L, updateData);
+
+        // Then
+        assertThat(productService.autocomplete("test", 10)).isEmpty();
+        assertThat(productService.autocomplete("renamed", 10)).extracting(Suggestion::getProductId).containsExactly(1L);
+    }
+
+    @Test
+    void getProductsByCategoryPage_ShouldServePriceSortedPageFromIndex() {
+        // Given
+        Product cable = new Product("USB Cable", null, new BigDecimal("9.99"), 50);
+        cable.setId(2L);
+        cable.setCategory("Electronics");
+        productCategoryIndex.index(testProduct);
+        productCategoryIndex.index(cable);
+        productCache.put(testProduct);
+        productCache.put(cable);
+
+        // When
+        CategoryListing listing = productService.getProductsByCategoryPage("Electronics", 0, 20, "price");
+
+        // Then
+        assertThat(listing.getTotal()).isEqualTo(2);
+        assertThat(listing.getSort()).isEqualTo("price");
+        assertThat(listing.getProducts())
+            .containsExactly(ProductMapper.toResponse(cable), ProductMapper.toResponse(testProduct));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductsByCategoryPage_WithUnsupportedSort_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> productService.getProductsByCategoryPage("Electronics", 0, 20, "name"));
+        assertEquals("Unsupported sort: name", exception.getMessage());
+    }
+
+    @Test
+    void updateProduct_WithNewPrice_ShouldRefreshCategorySummary() {
+        // Given
+        productCategoryIndex.index(testProduct);
+        Product updateData = new Product("Test Product", null, new BigDecimal("5.00"), 10);
+        updateData.setCategory("Electronics");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        productService.updateProduct(1L, updateData);
+
+        // Then
+        CategorySummary summary = productService.getCategorySummary("Electronics");
+        assertThat(summary.getProductCount()).isEqualTo(1);
+        assertThat(summary.getMinPrice()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    void deleteProduct_ShouldRemoveProductFromCategorySummaries() {
+        // Given
+        productCategoryIndex.index(testProduct);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When
+        productService.deleteProduct(1L);
+
+        // Then
+        assertThat(productService.getCategorySummaries()).isEmpty();
+    }
+
+    @Test
+    void getProductBySku_WithIndexedSku_ShouldResolveThroughCache() {
+        // Given
+        productSkuIndex.index(testProduct);
+        productCache.put(testProduct);
+
+        // When
+        Product result = productService.getProductBySku("TEST-001");
+
+        // Then
+        assertThat(result).isSameAs(testProduct);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void getProductBySku_WithUnknownSku_ShouldThrowException() {
+        // Given
+        when(productRepository.findBySku("NOPE-001")).thenReturn(Optional.empty());
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> productService.getProductBySku("NOPE-001"));
+        assertEquals("Product not found", exception.getMessage());
+    }
+
+    @Test
+    void resolveSkus_ShouldCombineIndexHitsWithSingleQueryForTheRest() {
+        // Given
+        productSkuIndex.index(testProduct);
+        when(productRepository.findSkuMappingsBySkuIn(List.of("LATE-002", "NOPE-003")))
+            .thenReturn(List.of(skuMapping(2L, "LATE-002")));
+
+        // When
+        SkuResolution result = productService.resolveSkus(List.of("LATE-002", "TEST-001", "NOPE-003", "TEST-001"));
+
+        // Then
+        assertThat(result.getProductIds()).containsExactly(
+            Map.entry("LATE-002", 2L), Map.entry("TEST-001", 1L));
+        assertThat(result.getMissingSkus()).containsExactly("NOPE-003");
+        verify(productRepository, times(1)).findSkuMappingsBySkuIn(anyCollection());
+    }
+
+    @Test
+    void resolveSkus_WhenAllIndexed_ShouldNotQueryRepository() {
+        // Given
+        productSkuIndex.index(testProduct);
+
+        // When
+        SkuResolution result = productService.resolveSkus(List.of("TEST-001"));
+
+        // Then
+        assertThat(result.getMissingSkus()).isEmpty();
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void createProduct_WithSkuInUse_ShouldThrowException() {
+        // Given
+        productSkuIndex.index(testProduct);
+        Product duplicate = new Product("Duplicate", null, new BigDecimal("9.99"), 1);
+        duplicate.setSku("TEST-001");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> productService.createProduct(duplicate));
+        assertEquals("SKU already in use: TEST-001", exception.getMessage());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void createProduct_WhenConcurrentCreateTookTheSku_ShouldThrowSkuInUse() {
+        // Given
+        Product duplicate = new Product("Duplicate", null, new BigDecimal("9.99"), 1);
+        duplicate.setSku("TEST-001");
+        when(productRepository.save(duplicate)).thenThrow(skuConstraintViolation());
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> productService.createProduct(duplicate));
+        assertEquals("SKU already in use: TEST-001", exception.getMessage());
+        assertThat(productSkuIndex.idOf("TEST-001")).isNull();
+    }
+
+    @Test
+    void updateProduct_WhenOtherIntegrityViolation_ShouldRethrow() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class)))
+            .thenThrow(new DataIntegrityViolationException("NULL not allowed for column \"NAME\""));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class,
+            () -> productService.updateProduct(1L, testProduct));
+    }
+
+    @Test
+    void updateProduct_WithNewSku_ShouldMoveSkuIndexEntry() {
+        // Given
+        productSkuIndex.index(testProduct);
+        Product updateData = new Product("Test Product", null, new BigDecimal("29.99"), 10);
+        updateData.setSku("TEST-002");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        productService.updateProduct(1L, updateData);
+
+        // Then
+        assertThat(productSkuIndex.idOf("TEST-001")).isNull();
+        assertThat(productSkuIndex.idOf("TEST-002")).isEqualTo(1L);
+    }
+
+    @Test
+    void bulkUpsert_WithDuplicateSkus_ShouldFailConflictingItems() {
+        // Given
+        productSkuIndex.index(testProduct);
+        Product taken = new Product("Taken", null, new BigDecimal("1.99"), 1);
+        taken.setSku("TEST-001");
+        Product first = new Product("First", null, new BigDecimal("1.99"), 1);
+        first.setSku("BULK-001");
+        Product repeated = new Product("Repeated", null, new BigDecimal("1.99"), 1);
+        repeated.setSku("BULK-001");
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BulkUpsertResult result = productService.bulkUpsert(List.of(taken, first, repeated));
+
+        // Then
+        assertThat(result.getItems()).extracting(BulkItemResult::getStatus).containsExactly(
+            BulkItemResult.Status.FAILED, BulkItemResult.Status.CREATED, BulkItemResult.Status.FAILED);
+        assertThat(result.getItems().get(0).getError()).isEqualTo("SKU already in use: TEST-001");
+        assertThat(result.getItems().get(2).getError()).isEqualTo("SKU appears more than once in the request: BULK-001");
+    }
+
+    @Test
+    void bulkUpsert_InTransaction_ShouldUpdateIndexesAndCacheOnlyAfterCommit() {
+        // Given
+        productCache.put(testProduct);
+        Product update = new Product("Renamed Product", "Renamed", new BigDecimal("24.99"), 7);
+        update.setId(1L);
+        update.setSku("BULK-RENAMED");
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(testProduct));
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            productService.bulkUpsert(List.of(update));
+
+            // Then
+            assertThat(productSkuIndex.idOf("BULK-RENAMED")).isNull();
+            assertThat(productCache.getIfPresent(1L)).isNotNull();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(productSkuIndex.idOf("BULK-RENAMED")).isEqualTo(1L);
+            assertThat(productCache.getIfPresent(1L)).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bulkUpsert_WhenTransactionRollsBack_ShouldLeaveIndexesUntouched() {
+        // Given
+        Product create = new Product("Rolled Back", null, new BigDecimal("1.99"), 1);
+        create.setSku("BULK-ROLLBACK");
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> toSave = invocation.getArgument(0);
+            toSave.forEach(product -> product.setId(42L));
+            return toSave;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            productService.bulkUpsert(List.of(create));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(productSkuIndex.idOf("BULK-ROLLBACK")).isNull();
+            assertThat(productCategoryIndex.categoryOf(42L)).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private SkuMapping skuMapping(Long id, String sku) {
+        return new SkuMapping() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public String getSku() { return sku; }
+        };
+    }
+
+    @Test
+    void updateProduct_WithStaleExpectedVersion_ShouldThrowWithoutSaving() {
+        // Given
+        testProduct.setVersion(5L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> productService.updateProduct(1L, new Product("Stale", null, new BigDecimal("1.99"), 1), 4L));
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStock_WithoutExpectedVersion_ShouldRetryLostRaceSoLastWriteWins() {
+        // Given
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Product result = productService.updateStock(1L, 42);
+
+        // Then
+        assertThat(result.getStockQuantity()).isEqualTo(42);
+        verify(productRepository, times(2)).findById(1L);
+        verify(productRepository, times(2)).save(any(Product.class));
+    }
+
+    @Test
+    void updateStock_WithExpectedVersion_ShouldNotRetryLostRace() {
+        // Given
+        testProduct.setVersion(5L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productService.updateStock(1L, 42, 5L));
+        verify(productRepository, times(1)).save(any(Product.class));
+    }
+
+    @Test
+    void updateStock_WithCurrentExpectedVersion_ShouldSave() {
+        // Given
+        testProduct.setVersion(5L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Product result = productService.updateStock(1L, 42, 5L);
+
+        // Then
+        assertThat(result.getStockQuantity()).isEqualTo(42);
+        verify(productRepository).save(testProduct);
+    }
+
+    @Test
+    void deleteProduct_WithStaleExpectedVersion_ShouldKeepProduct() {
+        // Given
+        testProduct.setVersion(5L);
+        productSkuIndex.index(testProduct);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productService.deleteProduct(1L, 4L));
+        verify(productRepository, never()).delete(any());
+        assertThat(productSkuIndex.idOf("TEST-001")).isEqualTo(1L);
+    }
+
+    @Test
+    void updateProduct_WhenCategoryChanges_ShouldBumpOldAndNewCategoryVersions() {
+        // Given
+        productCategoryIndex.index(testProduct);
+        Product updateData = new Product("Test Product", null, new BigDecimal("29.99"), 10);
+        updateData.setCategory("Books");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        productService.updateProduct(1L, updateData);
+
+        // Then
+        assertThat(catalogVersion.category("Electronics").version()).isEqualTo(1);
+        assertThat(catalogVersion.category("Books").version()).isEqualTo(1);
+        assertThat(catalogVersion.category("Clothing").version()).isZero();
+        assertThat(catalogVersion.catalog().version()).isEqualTo(1);
+    }
+
+    @Test
+    void reserveStock_WhenReserved_ShouldBumpCategoryVersion() {
+        // Given
+        productCategoryIndex.index(testProduct);
+        when(productRepository.decrementStock(1L, 2)).thenReturn(1);
+
+        // When
+        productService.reserveStock(1L, 2);
+
+        // Then
+        assertThat(catalogVersion.category("Electronics").version()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllProducts_ShouldNotChangeCatalogVersion() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(testProduct));
+
+        // When
+        productService.getAllProducts();
+
+        // Then
+        assertThat(catalogVersion.catalog().version()).isZero();
+    }
+
+    @Test
+    void getProductFieldsByCategory_ShouldUseProjectionQuery() {
+        // Given
+        List<String> fields = List.of("id", "name");
+        when(productRepository.findByCategoryProjected("Electronics", fields))
+            .thenReturn(List.of(Map.of("id", 1L, "name", "Test Product")));
+
+        // When
+        List<Map<String, Object>> rows = productService.getProductFieldsByCategory("Electronics", fields);
+
+        // Then
+        assertThat(rows).containsExactly(Map.of("id", 1L, "name", "Test Product"));
+        verify(productRepository, never()).findByCategory(any());
+    }
+
+    private static DataIntegrityViolationException skuConstraintViolation() {
+        // Shape of what H2 reports for uk_products_sku, see ProductRepositoryTest
+        return new DataIntegrityViolationException("could not execute statement",
+            new SQLIntegrityConstraintViolationException(
+                "Unique index or primary key violation: \"PUBLIC.UK_PRODUCTS_SKU_INDEX_F ON PUBLIC.PRODUCTS(SKU NULLS FIRST)\""));
+    }
+}
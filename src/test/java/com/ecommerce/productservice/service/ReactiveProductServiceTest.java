@@ -0,0 +1,169 @@
+package com.ecommerce.productservice.service;
+
+import com.ecommerce.productservice.cache.ProductCache;
+import com.ecommerce.productservice.dto.ProductMapper;
+import com.ecommerce.productservice.dto.ProductResponse;
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.model.ProductSearchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveProductServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    private ProductCache productCache;
+    private ReactiveProductService reactiveProductService;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(100, Duration.ofMinutes(10));
+        reactiveProductService = new ReactiveProductService(productService, productCache, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactiveProductService.shutdown();
+    }
+
+    @Test
+    void getProductById_WhenCached_ShouldEmitWithoutCallingService() {
+        // Given
+        Product product = createProduct(1L, "Gaming Laptop");
+        productCache.put(product);
+
+        // When
+        ProductResponse result = reactiveProductService.getProductById(1L).block();
+
+        // Then
+        assertThat(result).isEqualTo(ProductMapper.toResponse(product));
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void getProductById_WhenNotCached_ShouldLoadOnJdbcScheduler() {
+        // Given
+        AtomicReference<String> loadingThread = new AtomicReference<>();
+        when(productService.getProductById(1L)).thenAnswer(invocation -> {
+            loadingThread.set(Thread.currentThread().getName());
+            return createProduct(1L, "Gaming Laptop");
+        });
+
+        // When
+        ProductResponse result = reactiveProductService.getProductById(1L).block();
+
+        // Then
+        assertThat(result.name()).isEqualTo("Gaming Laptop");
+        assertThat(loadingThread.get()).startsWith("product-jdbc");
+    }
+
+    @Test
+    void getProductById_WhenNotFound_ShouldEmitError() {
+        // Given
+        when(productService.getProductById(99L)).thenThrow(new RuntimeException("Product not found"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> reactiveProductService.getProductById(99L).block());
+        assertThat(exception.getMessage()).isEqualTo("Product not found");
+    }
+
+    @Test
+    void getProductsByCategory_ShouldEmitEveryProduct() {
+        // Given
+        when(productService.getProductsByCategoryAfter("Electronics", null, ReactiveProductService.STREAM_PAGE_SIZE))
+            .thenReturn(List.of(createProduct(1L, "Gaming Laptop"), createProduct(2L, "Wireless Mouse")));
+
+        // When
+        List<ProductResponse> result = reactiveProductService.getProductsByCategory("Electronics").collectList().block();
+
+        // Then
+        assertThat(result).extracting(ProductResponse::id).containsExactly(1L, 2L);
+        verify(productService, never()).getProductsByCategory(any());
+    }
+
+    @Test
+    void getProductsByCategory_ShouldReadKeysetPagesUntilAShortOne() {
+        // Given
+        int pageSize = ReactiveProductService.STREAM_PAGE_SIZE;
+        List<Product> firstPage = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            firstPage.add(createProduct(id, "Product " + id));
+        }
+        when(productService.getProductsByCategoryAfter("Electronics", null, pageSize)).thenReturn(firstPage);
+        when(productService.getProductsByCategoryAfter("Electronics", (long) pageSize, pageSize))
+            .thenReturn(List.of(createProduct(pageSize + 1L, "Last Product")));
+
+        // When
+        List<ProductResponse> result = reactiveProductService.getProductsByCategory("Electronics").collectList().block();
+
+        // Then
+        assertThat(result).hasSize(pageSize + 1);
+        assertThat(result.get(pageSize).name()).isEqualTo("Last Product");
+    }
+
+    @Test
+    void getProductsByCategory_ShouldOnlyQueryPagesThatAreRequested() {
+        // Given
+        int pageSize = ReactiveProductService.STREAM_PAGE_SIZE;
+        List<Product> firstPage = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            firstPage.add(createProduct(id, "Product " + id));
+        }
+        when(productService.getProductsByCategoryAfter("Electronics", null, pageSize)).thenReturn(firstPage);
+
+        // When
+        List<ProductResponse> result = reactiveProductService.getProductsByCategory("Electronics").take(10).collectList().block();
+
+        // Then
+        assertThat(result).hasSize(10);
+        verify(productService, times(1)).getProductsByCategoryAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void getProductsByCategory_ShouldNotQueryUntilSubscribed() {
+        // When
+        reactiveProductService.getProductsByCategory("Electronics");
+
+        // Then
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void searchProducts_ShouldEmitRankedProducts() {
+        // Given
+        when(productService.searchProducts("mouse", 0, 5)).thenReturn(
+            new ProductSearchResult("mouse", 1, 0, 5, List.of(ProductMapper.toResponse(createProduct(2L, "Wireless Mouse")))));
+
+        // When
+        List<ProductResponse> result = reactiveProductService.searchProducts("mouse", 5).collectList().block();
+
+        // Then
+        assertThat(result).extracting(ProductResponse::name).containsExactly("Wireless Mouse");
+    }
+
+    private Product createProduct(Long id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setCategory("Electronics");
+        return product;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.productservice.service;
+
+import com.ecommerce.productservice.model.Product;
+import com.ecommerce.productservice.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives contended reservations against the real database (no test transaction) to show
+ * the conditional UPDATE never oversells.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class StockReservationConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 10;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setName("Contended Product");
+        product.setPrice(new BigDecimal("9.99"));
+        product.setStockQuantity(INITIAL_STOCK);
+        product.setCategory("Electronics");
+        product.setSku("CONTENDED-001");
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    void reserveStock_UnderContention_ShouldNeverOversell() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int reserved = 0;
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    if (productService.reserveStock(productId, 1).isReserved()) {
+                        reserved++;
+                    }
+                }
+                return reserved;
+            }));
+        }
+        start.countDown();
+
+        int totalReserved = 0;
+        for (Future<Integer> result : results) {
+            totalReserved += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(totalReserved).isEqualTo(INITIAL_STOCK);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+        assertThat(productService.getProductById(productId).getStockQuantity()).isZero();
+    }
+
+    @Test
+    void reserveStock_WithMultiUnitRequestsUnderContention_ShouldNeverGoNegative() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When - every thread tries to take 7 units at a time
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return productService.reserveStock(productId, 7).isReserved() ? 7 : 0;
+            }));
+        }
+        start.countDown();
+
+        int totalReserved = 0;
+        for (Future<Integer> result : results) {
+            totalReserved += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - 50 / 7 leaves 7 successful reservations and 1 unit on the shelf
+        int remaining = productRepository.findById(productId).orElseThrow().getStockQuantity();
+        assertThat(totalReserved).isEqualTo(49);
+        assertThat(remaining).isEqualTo(1);
+        assertThat(totalReserved + remaining).isEqualTo(INITIAL_STOCK);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RepositoryTimingAspectTest {
+
+    @Mock
+    private TelemetryClient telemetryClient;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @InjectMocks
+    private RepositoryTimingAspect aspect;
+
+    @AfterEach
+    void tearDown() {
+        TelemetryClient.TraceContext.clear();
+    }
+
+    @Test
+    void timeRepositoryCall_WithoutActiveTrace_ShouldProceedWithoutRecording() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // When
+        Object result = aspect.timeRepositoryCall(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        verify(telemetryClient, never()).recordStage(anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    void timeRepositoryCall_WithSampledTrace_ShouldRecordStage() throws Throwable {
+        // Given
+        TelemetryClient.TraceContext.propagate("trace-1", "span-1", true);
+        when(joinPoint.proceed()).thenReturn("result");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("findById");
+
+        // When
+        Object result = aspect.timeRepositoryCall(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        verify(telemetryClient).recordStage(eq("repository"), eq("findById"), anyLong(), isNull());
+    }
+
+    @Test
+    void timeRepositoryCall_WhenRepositoryFails_ShouldRecordErrorAndRethrow() throws Throwable {
+        // Given
+        TelemetryClient.TraceContext.propagate("trace-1", "span-1", true);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("connection lost"));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("save");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> aspect.timeRepositoryCall(joinPoint));
+        verify(telemetryClient).recordStage(eq("repository"), eq("save"), anyLong(), eq("connection lost"));
+    }
+
+    @Test
+    void timeRepositoryCall_WithUnsampledTrace_ShouldNotRecord() throws Throwable {
+        // Given
+        TelemetryClient.TraceContext.propagate("trace-1", "span-1", false);
+        when(joinPoint.proceed()).thenReturn(null);
+
+        // When
+        aspect.timeRepositoryCall(joinPoint);
+
+        // Then
+        verify(telemetryClient, never()).recordStage(anyString(), anyString(), anyLong(), any());
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,6 +43,13 @@ public class TelemetryClientTest {
         assertThat(traceId).hasSize(38); // "trace_" + 32 hex characters
     }
 
+    @Test
+    void hexId_ShouldWriteFixedWidthLowerCaseHex() {
+        // When & Then
+        assertThat(TelemetryClient.hexId("span_", 0xABL)).isEqualTo("span_00000000000000ab");
+        assertThat(TelemetryClient.hexId("trace_", -1L, 1L)).isEqualTo("trace_ffffffffffffffff0000000000000001");
+    }
+
     @Test
     void startTrace_WithNullUserId_ShouldReturnTraceId() {
         // When
@@ -281,4 +290,165 @@ public class TelemetryClientTest {
         telemetryClient.finishTrace("operation1", 200, null);
         assertThat(TelemetryClient.TraceContext.getTraceId()).isNull();
     }
+
+    @Test
+    void startTrace_ShouldQueueEventWithoutSendingOnCallingThread() {
+        // Given
+        TelemetryClient client = new TelemetryClient(100, 100, 60_000);
+        ReflectionTestUtils.setField(client, "telemetryServiceUrl", "http://localhost:1");
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+
+        // When
+        client.startTrace("test_operation", "GET", "/api/test", "user123");
+        client.logEvent("queued", "INFO");
+
+        // Then
+        assertThat(client.getEnqueuedEventCount()).isEqualTo(2);
+        assertThat(client.getQueueDepth()).isEqualTo(2);
+        assertThat(client.getSentEventCount()).isZero();
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+    }
+
+    @Test
+    void sendTelemetryEvent_WhenQueueIsFull_ShouldDropAndCount() {
+        // Given
+        TelemetryClient smallClient = new TelemetryClient(2, 100, 60_000);
+        ReflectionTestUtils.setField(smallClient, "telemetryServiceUrl", "http://localhost:1");
+        ReflectionTestUtils.setField(smallClient, "serviceName", "product-service");
+
+        // When
+        smallClient.startTrace("test_operation", "GET", "/api/test", "user123");
+        for (int i = 0; i < 5; i++) {
+            smallClient.logEvent("event " + i, "INFO");
+        }
+
+        // Then
+        assertThat(smallClient.getEnqueuedEventCount()).isEqualTo(2);
+        assertThat(smallClient.getDroppedEventCount()).isEqualTo(4);
+        assertThat(smallClient.getQueueDepth()).isEqualTo(2);
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+    }
+
+    @Test
+    void flush_WithUnreachableService_ShouldDrainQueueAndCountFailures() {
+        // Given
+        TelemetryClient client = new TelemetryClient(100, 2, 60_000);
+        ReflectionTestUtils.setField(client, "telemetryServiceUrl", "http://localhost:1");
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+        client.startTrace("test_operation", "GET", "/api/test", "user123");
+        client.logEvent("first", "INFO");
+        client.logEvent("second", "INFO");
+
+        // When
+        assertDoesNotThrow(client::flush);
+
+        // Then
+        assertThat(client.getQueueDepth()).isZero();
+        assertThat(client.getFailedEventCount()).isEqualTo(3);
+        assertThat(client.getSentEventCount()).isZero();
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+        client.shutdown();
+    }
+
+    @Test
+    void startTrace_WhenNotSampled_ShouldSkipEventsButKeepContext() {
+        // Given
+        TraceSampler neverSample = new TraceSampler(0.0, 0, true, Duration.ZERO, System::nanoTime);
+        TelemetryClient client = new TelemetryClient(100, 100, 60_000, neverSample);
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+
+        // When
+        String traceId = client.startTrace("test_operation", "GET", "/api/test", "user123");
+        client.recordServiceCall("inventory-service", "check", "GET", "/api/inventory", 5, 200);
+        client.logEvent("skipped", "INFO");
+
+        // Then
+        assertThat(TelemetryClient.TraceContext.getTraceId()).isEqualTo(traceId);
+        assertThat(TelemetryClient.TraceContext.isSampled()).isFalse();
+        assertThat(client.getEnqueuedEventCount()).isZero();
+
+        // Clean up
+        client.finishTrace("test_operation", 200, null);
+        assertThat(client.getEnqueuedEventCount()).isZero();
+        client.shutdown();
+    }
+
+    @Test
+    void finishTrace_WhenNotSampledButFailed_ShouldRecordFinishingSpan() {
+        // Given
+        TraceSampler neverSample = new TraceSampler(0.0, 0, true, Duration.ZERO, System::nanoTime);
+        TelemetryClient client = new TelemetryClient(100, 100, 60_000, neverSample);
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+        client.startTrace("test_operation", "GET", "/api/test", "user123");
+
+        // When
+        client.finishTrace("test_operation", 500, "Internal error");
+
+        // Then
+        assertThat(client.getEnqueuedEventCount()).isEqualTo(1);
+        assertThat(TelemetryClient.TraceContext.getTraceId()).isNull();
+        client.shutdown();
+    }
+
+    @Test
+    void traceContext_PropagateWithoutDecision_ShouldBeSampled() {
+        // When
+        TelemetryClient.TraceContext.propagate("trace-1", "span-1");
+
+        // Then
+        assertThat(TelemetryClient.TraceContext.isSampled()).isTrue();
+
+        // When
+        TelemetryClient.TraceContext.propagate("trace-1", "span-1", false);
+
+        // Then
+        assertThat(TelemetryClient.TraceContext.isSampled()).isFalse();
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+    }
+
+    @Test
+    void recordStage_WithActiveSampledTrace_ShouldQueueChildSpan() {
+        // Given
+        TelemetryClient client = new TelemetryClient(100, 100, 60_000);
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+        client.startTrace("test_operation", "GET", "/api/test", "user123");
+
+        // When
+        client.recordStage("repository", "findById", 250_000, null);
+
+        // Then
+        assertThat(client.getEnqueuedEventCount()).isEqualTo(2);
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+        client.shutdown();
+    }
+
+    @Test
+    void continueTrace_WithIncomingTraceId_ShouldReuseItAndHonourSamplingFlag() {
+        // Given
+        TelemetryClient client = new TelemetryClient(100, 100, 60_000);
+
+        // When
+        String traceId = client.continueTrace("trace_upstream", "span_caller", false, "GET /api/products", "GET", "/api/products", null);
+        client.recordStage("repository", "findAll", 1_000, null);
+
+        // Then
+        assertThat(traceId).isEqualTo("trace_upstream");
+        assertThat(TelemetryClient.TraceContext.getTraceId()).isEqualTo("trace_upstream");
+        assertThat(TelemetryClient.TraceContext.isSampled()).isFalse();
+        assertThat(client.getEnqueuedEventCount()).isZero();
+
+        // Clean up
+        TelemetryClient.TraceContext.clear();
+        client.shutdown();
+    }
 }
\ No newline at end of file
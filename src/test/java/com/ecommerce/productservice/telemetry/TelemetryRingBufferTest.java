@@ -0,0 +1,145 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TelemetryRingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        // When & Then
+        assertThat(new TelemetryRingBuffer(2).capacity()).isEqualTo(2);
+        assertThat(new TelemetryRingBuffer(16).capacity()).isEqualTo(16);
+        assertThat(new TelemetryRingBuffer(17).capacity()).isEqualTo(32);
+        assertThat(new TelemetryRingBuffer(10_000).capacity()).isEqualTo(16_384);
+    }
+
+    @Test
+    void tryClaim_WhenFull_ShouldReturnNegative() {
+        // Given
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            ring.publish(ring.tryClaim());
+        }
+
+        // When
+        long position = ring.tryClaim();
+
+        // Then
+        assertThat(position).isNegative();
+        assertThat(ring.size()).isEqualTo(4);
+    }
+
+    @Test
+    void drain_ShouldReturnPublishedEventsInOrderAndRecycleSlots() {
+        // Given
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(4);
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                long position = ring.tryClaim();
+                ring.slot(position).durationMs = lap * 4 + i;
+                ring.publish(position);
+            }
+            List<Long> durations = new ArrayList<>();
+
+            // When
+            int drained = ring.drain(event -> durations.add(event.durationMs), Integer.MAX_VALUE);
+
+            // Then
+            assertThat(drained).isEqualTo(4);
+            assertThat(durations).containsExactly(lap * 4L, lap * 4L + 1, lap * 4L + 2, lap * 4L + 3);
+            assertThat(ring.size()).isZero();
+        }
+    }
+
+    @Test
+    void drain_ShouldStopAtClaimedButUnpublishedSlot() {
+        // Given
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(4);
+        ring.publish(ring.tryClaim());
+        long pending = ring.tryClaim();
+        ring.publish(ring.tryClaim());
+
+        // When
+        int drainedBefore = ring.drain(event -> { }, Integer.MAX_VALUE);
+        ring.publish(pending);
+        int drainedAfter = ring.drain(event -> { }, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(drainedBefore).isEqualTo(1);
+        assertThat(drainedAfter).isEqualTo(2);
+    }
+
+    @Test
+    void drain_ShouldClearSlotsBeforeReuse() {
+        // Given
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(2);
+        long position = ring.tryClaim();
+        ring.slot(position).traceId = "trace_1";
+        ring.publish(position);
+        ring.drain(event -> { }, Integer.MAX_VALUE);
+
+        // When
+        ring.tryClaim();
+        long reused = ring.tryClaim();
+
+        // Then
+        assertThat(ring.slot(reused).traceId).isNull();
+    }
+
+    @Test
+    void concurrentProducers_ShouldNeitherLoseNorDuplicateEvents() throws Exception {
+        // Given
+        int producers = 4;
+        int eventsPerProducer = 10_000;
+        TelemetryRingBuffer ring = new TelemetryRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * eventsPerProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    long position;
+                    while ((position = ring.tryClaim()) < 0) {
+                        Thread.onSpinWait();
+                    }
+                    ring.slot(position).durationMs = base + i;
+                    ring.publish(position);
+                }
+                finished.incrementAndGet();
+                return null;
+            });
+        }
+        Set<Long> seen = new HashSet<>();
+        List<Long> duplicates = new ArrayList<>();
+
+        // When
+        start.countDown();
+        while (finished.get() < producers || ring.size() > 0) {
+            ring.drain(event -> {
+                if (!seen.add(event.durationMs)) {
+                    duplicates.add(event.durationMs);
+                }
+            }, 256);
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(duplicates).isEmpty();
+        assertThat(seen).hasSize(producers * eventsPerProducer);
+    }
+}
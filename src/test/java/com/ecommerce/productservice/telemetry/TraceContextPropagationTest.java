@@ -0,0 +1,148 @@
+package com.ecommerce.productservice.telemetry;
+
+import com.ecommerce.productservice.telemetry.TelemetryClient.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TraceContextPropagationTest {
+
+    private TelemetryClient client;
+    private ExecutorService worker;
+
+    @BeforeEach
+    void setUp() {
+        client = new TelemetryClient(100, 100, 60_000);
+        ReflectionTestUtils.setField(client, "serviceName", "product-service");
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+        worker.shutdownNow();
+        client.shutdown();
+    }
+
+    @Test
+    void wrappedExecutor_ShouldLinkChildSpanToParentAcrossThreadHop() throws Exception {
+        // Given
+        String traceId = client.startTrace("getProduct", "GET", "/api/products/1", null);
+        String parentSpanId = TraceContext.getSpanId();
+
+        // When
+        CompletableFuture.runAsync(
+            () -> client.recordServiceCall("inventory-service", "check", "GET", "/api/inventory/1", 3, 200),
+            TraceContext.wrap(worker)).get();
+
+        // Then
+        Map<String, Object> childSpan = findEvent(client.drainPendingEvents(), "inventory-service_check");
+        assertThat(childSpan.get("traceId")).isEqualTo(traceId);
+        assertThat(childSpan.get("parentSpanId")).isEqualTo(parentSpanId);
+        assertThat(childSpan.get("spanId")).isNotEqualTo(parentSpanId);
+    }
+
+    @Test
+    void wrappedTask_ShouldNotLeakContextIntoPooledThread() throws Exception {
+        // Given
+        client.startTrace("getProduct", "GET", "/api/products/1", null);
+        Future<String> seenInside = worker.submit(TraceContext.wrapCallable(TraceContext::getTraceId));
+        String insideTraceId = seenInside.get();
+        TraceContext.clear();
+
+        // When
+        TraceContext.Snapshot leftOnWorker = worker.submit(TraceContext::capture).get();
+
+        // Then
+        assertThat(insideTraceId).startsWith("trace_");
+        assertThat(leftOnWorker).isNull();
+    }
+
+    @Test
+    void wrappedSupplier_ShouldCarryContextThroughCompletableFuture() throws Exception {
+        // Given
+        client.startTrace("getProduct", "GET", "/api/products/1", null);
+        String parentSpanId = TraceContext.getSpanId();
+
+        // When
+        String seenSpanId = CompletableFuture.supplyAsync(TraceContext.wrapSupplier(TraceContext::getSpanId)).get();
+
+        // Then
+        assertThat(seenSpanId).isEqualTo(parentSpanId);
+    }
+
+    @Test
+    void attach_ShouldRestorePreviousContextWhenClosed() {
+        // Given
+        TraceContext.propagate("trace-outer", "span-outer", true);
+        TraceContext.Snapshot inner = new TraceContext.Snapshot("trace-inner", "span-inner", 1L, false);
+
+        // When
+        String insideTraceId;
+        try (TraceContext.Scope ignored = inner.attach()) {
+            insideTraceId = TraceContext.getTraceId();
+        }
+
+        // Then
+        assertThat(insideTraceId).isEqualTo("trace-inner");
+        assertThat(TraceContext.getTraceId()).isEqualTo("trace-outer");
+        assertThat(TraceContext.isSampled()).isTrue();
+    }
+
+    @Test
+    void setters_ShouldReplaceSnapshotWithoutMutatingCapturedOne() {
+        // Given
+        TraceContext.propagate("trace-1", "span-1", true);
+        TraceContext.Snapshot captured = TraceContext.capture();
+
+        // When
+        TraceContext.setSpanId("span-2");
+
+        // Then
+        assertThat(captured.spanId()).isEqualTo("span-1");
+        assertThat(TraceContext.getSpanId()).isEqualTo("span-2");
+        assertThat(TraceContext.getTraceId()).isEqualTo("trace-1");
+    }
+
+    @Test
+    void reactorPipeline_WithAutomaticPropagation_ShouldSeeContextOnOtherScheduler() {
+        // Given
+        Hooks.enableAutomaticContextPropagation();
+        try {
+            client.startTrace("getProduct", "GET", "/api/products/1", null);
+            String parentSpanId = TraceContext.getSpanId();
+
+            // When
+            String seenSpanId = Mono.just(1)
+                .publishOn(Schedulers.boundedElastic())
+                .map(ignored -> String.valueOf(TraceContext.getSpanId()))
+                .contextCapture()
+                .block();
+
+            // Then
+            assertThat(seenSpanId).isEqualTo(parentSpanId);
+        } finally {
+            Hooks.disableAutomaticContextPropagation();
+        }
+    }
+
+    private static Map<String, Object> findEvent(List<Map<String, Object>> events, String operation) {
+        return events.stream()
+            .filter(event -> operation.equals(event.get("operation")))
+            .findFirst()
+            .orElseThrow();
+    }
+}
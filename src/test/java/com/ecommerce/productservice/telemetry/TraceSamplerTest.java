@@ -0,0 +1,115 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TraceSamplerTest {
+
+    @Test
+    void sampleTrace_WithFullRate_ShouldAlwaysSample() {
+        // Given
+        TraceSampler sampler = TraceSampler.alwaysSample();
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sampler.sampleTrace()).isTrue();
+        }
+    }
+
+    @Test
+    void sampleTrace_WithZeroRate_ShouldNeverSample() {
+        // Given
+        TraceSampler sampler = new TraceSampler(0.0, 0, true, Duration.ZERO, System::nanoTime);
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sampler.sampleTrace()).isFalse();
+        }
+    }
+
+    @Test
+    void sampleTrace_WithPartialRate_ShouldSampleRoughlyThatFraction() {
+        // Given
+        TraceSampler sampler = new TraceSampler(0.25, 0, true, Duration.ZERO, System::nanoTime);
+
+        // When
+        int sampled = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (sampler.sampleTrace()) {
+                sampled++;
+            }
+        }
+
+        // Then
+        assertThat(sampled).isBetween(4_000, 6_000);
+    }
+
+    @Test
+    void sampleTrace_WithRateLimit_ShouldAllowOneSecondBurstThenRefill() {
+        // Given
+        AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        TraceSampler sampler = new TraceSampler(1.0, 10, true, Duration.ZERO, clock::get);
+
+        // When
+        int burst = 0;
+        for (int i = 0; i < 50; i++) {
+            if (sampler.sampleTrace()) {
+                burst++;
+            }
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        int afterRefill = 0;
+        for (int i = 0; i < 50; i++) {
+            if (sampler.sampleTrace()) {
+                afterRefill++;
+            }
+        }
+
+        // Then
+        assertThat(burst).isEqualTo(10);
+        assertThat(afterRefill).isEqualTo(3);
+    }
+
+    @Test
+    void keepUnsampled_WithErrorStatusOrMessage_ShouldKeep() {
+        // Given
+        TraceSampler sampler = new TraceSampler(0.0, 0, true, Duration.ZERO, System::nanoTime);
+
+        // When & Then
+        assertThat(sampler.keepUnsampled(500, null, 1)).isTrue();
+        assertThat(sampler.keepUnsampled(200, "boom", 1)).isTrue();
+        assertThat(sampler.keepUnsampled(200, null, 1)).isFalse();
+    }
+
+    @Test
+    void keepUnsampled_WithKeepErrorsDisabled_ShouldDropErrors() {
+        // Given
+        TraceSampler sampler = new TraceSampler(0.0, 0, false, Duration.ZERO, System::nanoTime);
+
+        // When & Then
+        assertThat(sampler.keepUnsampled(500, "boom", 1)).isFalse();
+    }
+
+    @Test
+    void keepUnsampled_WithSlowRequest_ShouldKeep() {
+        // Given
+        TraceSampler sampler = new TraceSampler(0.0, 0, false, Duration.ofMillis(500), System::nanoTime);
+
+        // When & Then
+        assertThat(sampler.keepUnsampled(200, null, 750)).isTrue();
+        assertThat(sampler.keepUnsampled(200, null, 100)).isFalse();
+    }
+
+    @Test
+    void constructor_WithRateOutOfRange_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> new TraceSampler(1.5, 0, true, Duration.ZERO, System::nanoTime));
+    }
+}
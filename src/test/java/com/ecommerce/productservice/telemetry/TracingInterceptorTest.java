@@ -0,0 +1,130 @@
+package com.ecommerce.productservice.telemetry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TracingInterceptorTest {
+
+    @Mock
+    private TelemetryClient telemetryClient;
+
+    private TracingInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new TracingInterceptor(telemetryClient);
+        request = new MockHttpServletRequest("GET", "/api/products/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TelemetryClient.TraceContext.clear();
+    }
+
+    @Test
+    void preHandle_WithoutTraceHeaders_ShouldStartNewTraceNamedAfterRoute() {
+        // Given
+        when(telemetryClient.continueTrace(isNull(), isNull(), isNull(), any(), any(), any(), isNull()))
+            .thenReturn("trace_new");
+
+        // When
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertThat(proceed).isTrue();
+        verify(telemetryClient).continueTrace(null, null, null, "GET /api/products/{id}", "GET", "/api/products/42", null);
+        assertThat(response.getHeader(TracingInterceptor.TRACE_ID_HEADER)).isEqualTo("trace_new");
+    }
+
+    @Test
+    void preHandle_WithTraceHeaders_ShouldContinueUpstreamTrace() {
+        // Given
+        request.addHeader(TracingInterceptor.TRACE_ID_HEADER, "trace_upstream");
+        request.addHeader(TracingInterceptor.SPAN_ID_HEADER, "span_caller");
+        request.addHeader(TracingInterceptor.SAMPLED_HEADER, "0");
+        when(telemetryClient.continueTrace(any(), any(), any(), any(), any(), any(), isNull()))
+            .thenReturn("trace_upstream");
+
+        // When
+        interceptor.preHandle(request, response, new Object());
+
+        // Then
+        verify(telemetryClient).continueTrace("trace_upstream", "span_caller", Boolean.FALSE,
+            "GET /api/products/{id}", "GET", "/api/products/42", null);
+        assertThat(response.getHeader(TracingInterceptor.TRACE_ID_HEADER)).isEqualTo("trace_upstream");
+    }
+
+    @Test
+    void afterCompletion_WithResponseStatus_ShouldFinishTrace() {
+        // Given
+        interceptor.preHandle(request, response, new Object());
+        response.setStatus(404);
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then
+        verify(telemetryClient).finishTrace("GET /api/products/{id}", 404, null);
+    }
+
+    @Test
+    void afterCompletion_WithUnhandledException_ShouldFinishTraceAsServerError() {
+        // Given
+        interceptor.preHandle(request, response, new Object());
+
+        // When
+        interceptor.afterCompletion(request, response, new Object(), new RuntimeException("Product not found"));
+
+        // Then
+        verify(telemetryClient).finishTrace("GET /api/products/{id}", 500, "Product not found");
+        assertThat(TelemetryClient.TraceContext.getTraceId()).isNull();
+    }
+
+    @Test
+    void asyncRequest_ShouldSuspendAndRestoreTraceContext() {
+        // Given
+        interceptor.preHandle(request, response, new Object());
+        TelemetryClient.TraceContext.propagate("trace_async", "span_async", true);
+        TelemetryClient.TraceContext.setStartTime(1234L);
+
+        // When
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        String traceIdWhileSuspended = TelemetryClient.TraceContext.getTraceId();
+        interceptor.preHandle(request, response, new Object());
+
+        // Then
+        assertThat(traceIdWhileSuspended).isNull();
+        assertThat(TelemetryClient.TraceContext.getTraceId()).isEqualTo("trace_async");
+        assertThat(TelemetryClient.TraceContext.getSpanId()).isEqualTo("span_async");
+        assertThat(TelemetryClient.TraceContext.getStartTime()).isEqualTo(1234L);
+    }
+
+    @Test
+    void parseSampled_ShouldAcceptNumericAndBooleanFlags() {
+        // When & Then
+        assertThat(TracingInterceptor.parseSampled("1")).isTrue();
+        assertThat(TracingInterceptor.parseSampled("true")).isTrue();
+        assertThat(TracingInterceptor.parseSampled("0")).isFalse();
+        assertThat(TracingInterceptor.parseSampled("FALSE")).isFalse();
+        assertThat(TracingInterceptor.parseSampled("maybe")).isNull();
+        assertThat(TracingInterceptor.parseSampled(null)).isNull();
+    }
+}